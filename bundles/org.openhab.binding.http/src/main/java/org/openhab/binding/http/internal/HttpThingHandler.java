@@ -18,6 +18,7 @@ import java.net.URISyntaxException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -68,22 +69,27 @@ public class HttpThingHandler extends BaseThingHandler {
     private final HttpClientProvider httpClientProvider;
     private HttpClient httpClient;
     private RateLimitedHttpClient rateLimitedHttpClient;
+    private ResponseBufferPool responseBufferPool = new ResponseBufferPool(0);
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ItemValueConverter> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private final Map<ChannelUID, Consumer<Content>> channelConsumers = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             ValueTransformationProvider valueTransformationProvider,
-            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider) {
+            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
+            RefreshingUrlCacheRegistry urlCacheRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.httpClient = httpClientProvider.getSecureClient();
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
         this.valueTransformationProvider = valueTransformationProvider;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -138,6 +144,9 @@ public class HttpThingHandler extends BaseThingHandler {
         rateLimitedHttpClient.setHttpClient(httpClient);
         rateLimitedHttpClient.setDelay(config.delay);
 
+        // a single response of the maximum size must always fit
+        responseBufferPool = new ResponseBufferPool(Math.max(config.bufferMemoryLimit, config.bufferSize) * 1024L);
+
         int channelCount = thing.getChannels().size();
         if (channelCount * config.delay > config.refresh * 1000) {
             // this should prevent the rate limit queue from filling up
@@ -191,14 +200,20 @@ public class HttpThingHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
-        // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        // stop update tasks, shared tasks are stopped when the last thing is removed
+        channelConsumers.forEach((channelUID, consumer) -> {
+            RefreshingUrlCache refreshingUrlCache = urlHandlers.get(channelUrls.get(channelUID));
+            if (refreshingUrlCache != null) {
+                urlCacheRegistry.removeConsumer(refreshingUrlCache, consumer);
+            }
+        });
         rateLimitedHttpClient.shutdown();
 
         // clear lists
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
+        channelConsumers.clear();
 
         // remove state descriptions
         httpDynamicStateDescriptionProvider.removeDescriptionsForThing(thing.getUID());
@@ -273,10 +288,10 @@ public class HttpThingHandler extends BaseThingHandler {
         channels.put(channelUID, itemValueConverter);
         if (channelConfig.mode != HttpChannelMode.WRITEONLY) {
             channelUrls.put(channelUID, stateUrl);
-            urlHandlers
-                    .computeIfAbsent(stateUrl,
-                            url -> new RefreshingUrlCache(scheduler, rateLimitedHttpClient, url, config))
-                    .addConsumer(itemValueConverter::process);
+            Consumer<Content> consumer = itemValueConverter::process;
+            channelConsumers.put(channelUID, consumer);
+            urlHandlers.put(stateUrl,
+                    urlCacheRegistry.addConsumer(urlCacheKey(stateUrl), () -> createUrlCache(stateUrl), consumer));
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -287,6 +302,31 @@ public class HttpThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * things without delay share the cache if they request the same URL with the same configuration, with delay the
+     * requests are queued in the rate limited client of the thing
+     *
+     * @param url the state URL
+     * @return the key of the cache in the {@link RefreshingUrlCacheRegistry}
+     */
+    private Object urlCacheKey(String url) {
+        if (config.delay != 0) {
+            return List.of(url, thing.getUID());
+        }
+        return List.of(url, config.refresh, config.timeout, config.bufferSize, config.bufferMemoryLimit,
+                String.valueOf(config.encoding), List.copyOf(config.headers), config.ignoreSSLErrors,
+                config.skipUnchanged, config.authMode, config.username, config.password);
+    }
+
+    private RefreshingUrlCache createUrlCache(String url) {
+        if (config.delay == 0) {
+            // the cache may outlive this thing, it must not use the client of the thing
+            return new RefreshingUrlCache(scheduler, new RateLimitedHttpClient(httpClient, scheduler), true, url,
+                    config, responseBufferPool);
+        }
+        return new RefreshingUrlCache(scheduler, rateLimitedHttpClient, false, url, config, responseBufferPool);
+    }
+
     private void sendHttpValue(String commandUrl, String command) {
         sendHttpValue(commandUrl, command, false);
     }
@@ -340,7 +380,7 @@ public class HttpThingHandler extends BaseThingHandler {
                 }
                 return null;
             });
-            request.send(new HttpResponseListener(f, null, config.bufferSize));
+            request.send(new HttpResponseListener(f, null, config.bufferSize, responseBufferPool));
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
             logger.warn("Creating request for '{}' failed: {}", commandUrl, e.getMessage());
         }
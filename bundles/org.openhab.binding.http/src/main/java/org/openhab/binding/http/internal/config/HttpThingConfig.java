@@ -36,11 +36,13 @@ public class HttpThingConfig {
     public HttpAuthMode authMode = HttpAuthMode.BASIC;
     public HttpMethod commandMethod = HttpMethod.GET;
     public int bufferSize = 2048;
+    public int bufferMemoryLimit = 8192;
 
     public @Nullable String encoding = null;
     public @Nullable String contentType = null;
 
     public boolean ignoreSSLErrors = false;
+    public boolean skipUnchanged = false;
 
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
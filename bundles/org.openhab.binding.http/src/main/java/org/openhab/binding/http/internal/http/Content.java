@@ -12,8 +12,11 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -21,6 +24,8 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * The {@link Content} defines the pre-processed response
  *
+ * The content is decoded once, when the first consumer requests it as string.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -28,17 +33,36 @@ public class Content {
     private final byte[] rawContent;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private final @Nullable String eTag;
+    private final @Nullable String lastModified;
+    private @Nullable String decodedContent;
 
     public Content(byte[] rawContent, String encoding, @Nullable String mediaType) {
+        this(rawContent, encoding, mediaType, null, null);
+    }
+
+    /**
+     * @param rawContent the content of the response
+     * @param encoding the encoding of the content
+     * @param mediaType the media type of the content
+     * @param eTag the value of the ETag header of the response
+     * @param lastModified the value of the Last-Modified header of the response
+     */
+    public Content(byte[] rawContent, String encoding, @Nullable String mediaType, @Nullable String eTag,
+            @Nullable String lastModified) {
         this.rawContent = rawContent;
         this.mediaType = mediaType;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.encoding = toCharset(encoding);
+    }
 
-        Charset finalEncoding = StandardCharsets.UTF_8;
+    private static Charset toCharset(String encoding) {
         try {
-            finalEncoding = Charset.forName(encoding);
+            return Charset.forName(encoding);
         } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
         }
-        this.encoding = finalEncoding;
     }
 
     public byte[] getRawContent() {
@@ -46,10 +70,52 @@ public class Content {
     }
 
     public String getAsString() {
-        return new String(rawContent, encoding);
+        String decodedContent = this.decodedContent;
+        if (decodedContent == null) {
+            // concurrent consumers may decode twice, but always get equal strings
+            decodedContent = new String(rawContent, encoding);
+            this.decodedContent = decodedContent;
+        }
+        return decodedContent;
     }
 
     public @Nullable String getMediaType() {
         return mediaType;
     }
+
+    public @Nullable String getETag() {
+        return eTag;
+    }
+
+    public @Nullable String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Checks if the other content has the same bytes, encoding and media type.
+     *
+     * @param other the content to compare with
+     * @return true if the channels would get the same values from both contents
+     */
+    public boolean hasSameContent(Content other) {
+        return encoding.equals(other.encoding) && Objects.equals(mediaType, other.mediaType)
+                && Arrays.equals(rawContent, other.rawContent);
+    }
+
+    /**
+     * Checks if a response has the same content and headers, so this content can be used instead of a copy.
+     *
+     * @param rawContent the buffered content of the response, its position is not changed
+     * @param encoding the encoding of the response
+     * @param mediaType the media type of the response
+     * @param eTag the value of the ETag header of the response
+     * @param lastModified the value of the Last-Modified header of the response
+     * @return true if the response has the same content and headers
+     */
+    public boolean isSameAs(ByteBuffer rawContent, String encoding, @Nullable String mediaType, @Nullable String eTag,
+            @Nullable String lastModified) {
+        return Objects.equals(this.mediaType, mediaType) && Objects.equals(this.eTag, eTag)
+                && Objects.equals(this.lastModified, lastModified) && this.encoding.equals(toCharset(encoding))
+                && ByteBuffer.wrap(this.rawContent).equals(rawContent);
+    }
 }
@@ -12,7 +12,9 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -21,22 +23,37 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
-import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.MimeTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link HttpResponseListener} is responsible for processing the result of a HTTP request
  *
+ * The content is buffered in buffers of the {@link ResponseBufferPool} of the thing. If the server sends the length
+ * of the content, the buffer has exactly this size and becomes the content without a copy. Otherwise the buffer grows
+ * by doubling, the smaller buffers are returned to the pool. If the content equals the cached content, the future is
+ * completed with the cached content instead of a copy.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-public class HttpResponseListener extends BufferingResponseListener {
+public class HttpResponseListener extends Response.Listener.Adapter {
     private final Logger logger = LoggerFactory.getLogger(HttpResponseListener.class);
     private final CompletableFuture<@Nullable Content> future;
     private final String fallbackEncoding;
+    private final int maxLength;
+    private final ResponseBufferPool bufferPool;
+    private final @Nullable Content cachedContent;
+
+    private byte @Nullable [] buffer;
+    private int size = 0;
+    private boolean aborted = false;
+    private @Nullable String mediaType;
+    private @Nullable String encoding;
 
     /**
      * the HttpResponseListener is responsible
@@ -44,19 +61,109 @@ public class HttpResponseListener extends BufferingResponseListener {
      * @param future Content future to complete with the result of the request
      * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
      * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param bufferPool the pool providing the buffers for the content
      */
     public HttpResponseListener(CompletableFuture<@Nullable Content> future, @Nullable String fallbackEncoding,
-            int bufferSize) {
-        super(bufferSize * 1024);
+            int bufferSize, ResponseBufferPool bufferPool) {
+        this(future, fallbackEncoding, bufferSize, bufferPool, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param bufferPool the pool providing the buffers for the content
+     * @param cachedContent the content the future is completed with if the server answers a conditional request
+     *            with 304 (Not Modified) or the content did not change
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable Content> future, @Nullable String fallbackEncoding,
+            int bufferSize, ResponseBufferPool bufferPool, @Nullable Content cachedContent) {
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
+        this.maxLength = bufferSize * 1024;
+        this.bufferPool = bufferPool;
+        this.cachedContent = cachedContent;
+    }
+
+    @Override
+    public void onHeaders(@NonNullByDefault({}) Response response) {
+        long length = response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        if (length > maxLength) {
+            abort(response, "Buffering capacity " + maxLength + " exceeded");
+            return;
+        }
+        String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+        if (contentType != null) {
+            int index = contentType.indexOf(';');
+            mediaType = index < 0 ? contentType.trim() : contentType.substring(0, index).trim();
+            encoding = MimeTypes.getCharsetFromContentType(contentType);
+        }
+        if (length > 0) {
+            buffer = bufferPool.acquire((int) length, true);
+            if (buffer == null) {
+                abort(response, "Buffer memory limit exceeded");
+            }
+        }
+    }
+
+    @Override
+    public void onContent(@NonNullByDefault({}) Response response, @NonNullByDefault({}) ByteBuffer content) {
+        if (aborted) {
+            return;
+        }
+        byte[] buffer = this.buffer;
+        int length = content.remaining();
+        if (size + length > maxLength) {
+            abort(response, "Buffering capacity " + maxLength + " exceeded");
+            return;
+        }
+        if (buffer == null || buffer.length - size < length) {
+            // grow by doubling, the old buffer is returned to the pool
+            byte[] newBuffer = bufferPool.acquire(Math.max(size + length, Math.min(2 * (size + length), maxLength)),
+                    false);
+            if (newBuffer == null) {
+                abort(response, "Buffer memory limit exceeded");
+                return;
+            }
+            if (buffer != null) {
+                System.arraycopy(buffer, 0, newBuffer, 0, size);
+                bufferPool.release(buffer);
+            }
+            buffer = newBuffer;
+            this.buffer = buffer;
+        }
+        content.get(buffer, size, length);
+        size += length;
+    }
+
+    private void abort(Response response, String message) {
+        aborted = true;
+        response.abort(new IllegalArgumentException(message));
     }
 
     @Override
     public void onComplete(@NonNullByDefault({}) Result result) {
+        byte[] buffer = this.buffer;
+        this.buffer = null;
+        if (buffer == null) {
+            processResult(result, new byte[0], 0);
+            return;
+        }
+        if (!processResult(result, buffer, size)) {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * @return true if the buffer is used as content and must not be returned to the pool
+     */
+    private boolean processResult(Result result, byte[] buffer, int size) {
         Response response = result.getResponse();
         if (logger.isTraceEnabled()) {
-            logger.trace("Received from '{}': {}", result.getRequest().getURI(), responseToLogString(response));
+            logger.trace("Received from '{}': {}", result.getRequest().getURI(),
+                    responseToLogString(response, Arrays.copyOf(buffer, size)));
         }
         Request request = result.getRequest();
         if (result.isFailed()) {
@@ -66,13 +173,30 @@ public class HttpResponseListener extends BufferingResponseListener {
         } else {
             switch (response.getStatus()) {
                 case HttpStatus.OK_200:
-                    byte[] content = getContent();
-                    String encoding = getEncoding();
-                    if (content != null) {
-                        future.complete(
-                                new Content(content, encoding == null ? fallbackEncoding : encoding, getMediaType()));
+                    String encoding = this.encoding;
+                    String eTag = response.getHeaders().get(HttpHeader.ETAG);
+                    String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+                    final Content cachedContent = this.cachedContent;
+                    if (cachedContent != null && cachedContent.isSameAs(ByteBuffer.wrap(buffer, 0, size),
+                            encoding == null ? fallbackEncoding : encoding, mediaType, eTag, lastModified)) {
+                        future.complete(cachedContent);
+                        return false;
+                    }
+                    final boolean detach = size == buffer.length && size > 0;
+                    if (detach) {
+                        bufferPool.detach(buffer);
+                    }
+                    future.complete(new Content(detach ? buffer : Arrays.copyOf(buffer, size),
+                            encoding == null ? fallbackEncoding : encoding, mediaType, eTag, lastModified));
+                    return detach;
+                case HttpStatus.NOT_MODIFIED_304:
+                    if (this.cachedContent != null) {
+                        future.complete(this.cachedContent);
                     } else {
-                        future.complete(null);
+                        logger.warn("Requesting '{}' (method='{}', content='{}') failed: Unexpected Not Modified",
+                                request.getURI(), request.getMethod(), request.getContent());
+                        future.completeExceptionally(
+                                new IllegalStateException("Response - Code" + response.getStatus()));
                     }
                     break;
                 case HttpStatus.UNAUTHORIZED_401:
@@ -86,12 +210,16 @@ public class HttpResponseListener extends BufferingResponseListener {
                     future.completeExceptionally(new IllegalStateException("Response - Code" + response.getStatus()));
             }
         }
+        return false;
     }
 
-    private String responseToLogString(Response response) {
+    private String responseToLogString(Response response, byte[] rawContent) {
+        String encoding = this.encoding;
+        String content = new Content(rawContent, encoding == null ? fallbackEncoding : encoding, mediaType)
+                .getAsString();
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
-                + "}, Content = {" + getContentAsString() + "}";
+                + "}, Content = {" + content + "}";
         return logString;
     }
 }
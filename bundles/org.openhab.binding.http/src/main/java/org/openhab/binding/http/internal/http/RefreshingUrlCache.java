@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
+import org.eclipse.jetty.http.HttpHeader;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.slf4j.Logger;
@@ -33,6 +34,10 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * If the last response had an ETag or Last-Modified header, the request is conditional and a 304 (Not Modified)
+ * response reuses the last content, as does a response with equal content. With skipUnchanged, content equal to the
+ * last one is only passed to consumers added since then.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -41,22 +46,38 @@ public class RefreshingUrlCache {
 
     private final String url;
     private final RateLimitedHttpClient httpClient;
+    private final boolean ownsHttpClient;
     private final int timeout;
     private final int bufferSize;
+    private final ResponseBufferPool bufferPool;
     private final @Nullable String fallbackEncoding;
     private final Set<Consumer<Content>> consumers = ConcurrentHashMap.newKeySet();
+    private final Set<Consumer<Content>> newConsumers = ConcurrentHashMap.newKeySet();
     private final List<String> headers;
+    private final boolean skipUnchanged;
 
     private final ScheduledFuture<?> future;
-    private @Nullable Content lastContent;
-
-    public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
-            HttpThingConfig thingConfig) {
+    private volatile @Nullable Content lastContent;
+    private volatile @Nullable URI lastUri;
+
+    /**
+     * @param executor the executor for the refresh task
+     * @param httpClient the client for the requests
+     * @param ownsHttpClient true if the client is only used by this cache and is shut down when the cache stops
+     * @param url the URL to request
+     * @param thingConfig the configuration of the thing
+     * @param bufferPool the pool providing the buffers for the responses
+     */
+    public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient,
+            boolean ownsHttpClient, String url, HttpThingConfig thingConfig, ResponseBufferPool bufferPool) {
         this.httpClient = httpClient;
+        this.ownsHttpClient = ownsHttpClient;
+        this.bufferPool = bufferPool;
         this.url = url;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
         this.headers = thingConfig.headers;
+        this.skipUnchanged = thingConfig.skipUnchanged;
         fallbackEncoding = thingConfig.encoding;
 
         future = executor.scheduleWithFixedDelay(this::refresh, 1, thingConfig.refresh, TimeUnit.SECONDS);
@@ -90,6 +111,17 @@ public class RefreshingUrlCache {
                     }
                 });
 
+                final Content cachedContent = uri.equals(lastUri) ? lastContent : null;
+                if (cachedContent != null) {
+                    final String eTag = cachedContent.getETag();
+                    final String lastModified = cachedContent.getLastModified();
+                    if (eTag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    } else if (lastModified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    }
+                }
+
                 CompletableFuture<@Nullable Content> response = new CompletableFuture<>();
                 response.exceptionally(e -> {
                     if (e instanceof HttpAuthException) {
@@ -108,13 +140,14 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(uri, content));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(response, fallbackEncoding, bufferSize));
+                request.send(
+                        new HttpResponseListener(response, fallbackEncoding, bufferSize, bufferPool, cachedContent));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -131,14 +164,31 @@ public class RefreshingUrlCache {
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
+        newConsumers.clear();
         future.cancel(false);
+        if (ownsHttpClient) {
+            httpClient.shutdown();
+        }
         logger.trace("Stopped refresh task for URL '{}'", url);
     }
 
     public void addConsumer(Consumer<Content> consumer) {
+        newConsumers.add(consumer);
         consumers.add(consumer);
     }
 
+    /**
+     * Remove a consumer
+     *
+     * @param consumer the consumer to remove
+     * @return true if no consumers are left
+     */
+    public boolean removeConsumer(Consumer<Content> consumer) {
+        consumers.remove(consumer);
+        newConsumers.remove(consumer);
+        return consumers.isEmpty();
+    }
+
     public Optional<Content> get() {
         final Content content = lastContent;
         if (content == null) {
@@ -148,9 +198,18 @@ public class RefreshingUrlCache {
         }
     }
 
-    private void processResult(@Nullable Content content) {
+    private void processResult(URI uri, @Nullable Content content) {
         if (content != null) {
+            final Content lastContent = this.lastContent;
+            final boolean unchanged = skipUnchanged && lastContent != null
+                    && (content == lastContent || content.hasSameContent(lastContent));
+            if (unchanged) {
+                logger.trace("Content of URL {} unchanged, only updating new consumers", url);
+            }
             for (Consumer<Content> consumer : consumers) {
+                if (!newConsumers.remove(consumer) && unchanged) {
+                    continue;
+                }
                 try {
                     consumer.accept(content);
                 } catch (IllegalArgumentException | IllegalStateException e) {
@@ -158,6 +217,7 @@ public class RefreshingUrlCache {
                 }
             }
         }
+        lastUri = uri;
         lastContent = content;
     }
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares one {@link RefreshingUrlCache} between all things requesting the
+ * same URL with the same configuration. A cache is stopped when its last consumer is removed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Map<Object, RefreshingUrlCache> caches = new HashMap<>();
+
+    /**
+     * Add a consumer to the cache of the given key, the cache is created if there is none
+     *
+     * @param key the URL and all configuration values used for requesting it
+     * @param factory creates the cache
+     * @param consumer the consumer of the content
+     * @return the cache the consumer was added to
+     */
+    public synchronized RefreshingUrlCache addConsumer(Object key, Supplier<RefreshingUrlCache> factory,
+            Consumer<Content> consumer) {
+        RefreshingUrlCache cache = caches.computeIfAbsent(key, k -> factory.get());
+        cache.addConsumer(consumer);
+        return cache;
+    }
+
+    /**
+     * Remove a consumer from a cache and stop the cache if it has no consumers left
+     *
+     * @param cache the cache returned by {@link #addConsumer(Object, Supplier, Consumer)}
+     * @param consumer the consumer to remove
+     */
+    public synchronized void removeConsumer(RefreshingUrlCache cache, Consumer<Content> consumer) {
+        if (cache.removeConsumer(consumer)) {
+            cache.stop();
+            caches.values().remove(cache);
+        }
+    }
+
+    /**
+     * Stop all caches
+     */
+    public synchronized void stop() {
+        caches.values().forEach(RefreshingUrlCache::stop);
+        caches.clear();
+    }
+}
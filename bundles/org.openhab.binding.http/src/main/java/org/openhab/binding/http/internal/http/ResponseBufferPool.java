@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ResponseBufferPool} provides the buffers for the responses of a thing and limits the memory they use
+ *
+ * The limit covers the buffers of responses in progress and the released buffers kept for reuse. Released buffers are
+ * dropped if a new buffer would exceed the limit. A buffer which becomes the content of a response is detached, it
+ * is no longer counted.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseBufferPool {
+    // maximum number of released buffers kept for reuse
+    private static final int MAX_FREE_BUFFERS = 4;
+
+    private final long maxBytes;
+    private final Deque<byte[]> freeBuffers = new ArrayDeque<>();
+    private long usedBytes = 0;
+
+    /**
+     * @param maxBytes the maximum number of bytes in buffers of this pool
+     */
+    public ResponseBufferPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Acquire a buffer
+     *
+     * @param capacity the minimum capacity of the buffer
+     * @param exact if the buffer must have exactly the given capacity
+     * @return the buffer or null if the memory limit would be exceeded
+     */
+    public synchronized byte @Nullable [] acquire(int capacity, boolean exact) {
+        Iterator<byte[]> iterator = freeBuffers.iterator();
+        while (iterator.hasNext()) {
+            byte[] buffer = iterator.next();
+            if (exact ? buffer.length == capacity : buffer.length >= capacity) {
+                iterator.remove();
+                return buffer;
+            }
+        }
+        while (usedBytes + capacity > maxBytes && !freeBuffers.isEmpty()) {
+            usedBytes -= freeBuffers.removeLast().length;
+        }
+        if (usedBytes + capacity > maxBytes) {
+            return null;
+        }
+        usedBytes += capacity;
+        return new byte[capacity];
+    }
+
+    /**
+     * Return a buffer for reuse
+     *
+     * @param buffer a buffer acquired from this pool
+     */
+    public synchronized void release(byte[] buffer) {
+        if (freeBuffers.size() < MAX_FREE_BUFFERS) {
+            freeBuffers.addFirst(buffer);
+        } else {
+            usedBytes -= buffer.length;
+        }
+    }
+
+    /**
+     * Remove a buffer from the pool, e.g. because it is used as content
+     *
+     * @param buffer a buffer acquired from this pool
+     */
+    public synchronized void detach(byte[] buffer) {
+        usedBytes -= buffer.length;
+    }
+
+    /**
+     * @return the number of bytes in buffers of this pool
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link HttpResponseListenerTest} is a test class for buffering responses
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HttpResponseListenerTest {
+    private final Request request = mock(Request.class);
+    private final Response response = mock(Response.class);
+    private final HttpFields headers = new HttpFields();
+    private final CompletableFuture<@Nullable Content> future = new CompletableFuture<>();
+    private final ResponseBufferPool bufferPool = new ResponseBufferPool(1024 * 1024);
+
+    @BeforeEach
+    public void setUp() {
+        when(request.getURI()).thenReturn(URI.create("http://localhost/"));
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getStatus()).thenReturn(HttpStatus.OK_200);
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain; charset=UTF-8");
+    }
+
+    private static byte[] bytes(int length, char c) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) c);
+        return bytes;
+    }
+
+    private void receive(HttpResponseListener listener, byte[]... chunks) {
+        listener.onHeaders(response);
+        for (byte[] chunk : chunks) {
+            listener.onContent(response, ByteBuffer.wrap(chunk));
+        }
+        listener.onComplete(new Result(request, response));
+    }
+
+    @Test
+    public void contentIsCollectedFromChunks() throws Exception {
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool);
+
+        receive(listener, bytes(300, 'a'), bytes(300, 'b'), bytes(300, 'c'));
+
+        Content content = future.get();
+        Assertions.assertNotNull(content);
+        Assertions.assertEquals("a".repeat(300) + "b".repeat(300) + "c".repeat(300), content.getAsString());
+        Assertions.assertEquals("text/plain", content.getMediaType());
+        Assertions.assertEquals(900, content.getRawContent().length);
+        verify(response, never()).abort(any());
+    }
+
+    @Test
+    public void bufferOfKnownLengthBecomesContent() throws Exception {
+        headers.put(HttpHeader.CONTENT_LENGTH, "600");
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool);
+
+        receive(listener, bytes(300, 'a'), bytes(300, 'b'));
+
+        Content content = future.get();
+        Assertions.assertNotNull(content);
+        Assertions.assertEquals("a".repeat(300) + "b".repeat(300), content.getAsString());
+        // the buffer is not a part of the pool anymore
+        Assertions.assertEquals(0, bufferPool.getUsedBytes());
+    }
+
+    @Test
+    public void responseExceedingBufferSizeIsAborted() throws Exception {
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool);
+
+        listener.onHeaders(response);
+        listener.onContent(response, ByteBuffer.wrap(bytes(1000, 'a')));
+        listener.onContent(response, ByteBuffer.wrap(bytes(100, 'b')));
+        verify(response).abort(any(IllegalArgumentException.class));
+        listener.onComplete(new Result(request, response, new IllegalArgumentException("aborted")));
+
+        Assertions.assertNull(future.get());
+    }
+
+    @Test
+    public void responseWithTooLargeContentLengthIsAborted() {
+        headers.put(HttpHeader.CONTENT_LENGTH, "2048");
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool);
+
+        listener.onHeaders(response);
+
+        verify(response).abort(any(IllegalArgumentException.class));
+        Assertions.assertEquals(0, bufferPool.getUsedBytes());
+    }
+
+    @Test
+    public void responseExceedingMemoryLimitIsAborted() {
+        ResponseBufferPool smallPool = new ResponseBufferPool(1000);
+        headers.put(HttpHeader.CONTENT_LENGTH, "600");
+        HttpResponseListener first = new HttpResponseListener(future, null, 1, smallPool);
+        HttpResponseListener second = new HttpResponseListener(new CompletableFuture<>(), null, 1, smallPool);
+
+        first.onHeaders(response);
+        verify(response, never()).abort(any());
+        second.onHeaders(response);
+        verify(response).abort(any(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void unchangedContentReusesCachedContent() throws Exception {
+        Content cachedContent = new Content("value".getBytes(StandardCharsets.UTF_8), "UTF-8", "text/plain");
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool, cachedContent);
+
+        receive(listener, "value".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertSame(cachedContent, future.get());
+    }
+
+    @Test
+    public void notModifiedReusesCachedContent() throws Exception {
+        Content cachedContent = new Content("value".getBytes(StandardCharsets.UTF_8), "UTF-8", "text/plain", "\"1\"",
+                null);
+        when(response.getStatus()).thenReturn(HttpStatus.NOT_MODIFIED_304);
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool, cachedContent);
+
+        receive(listener);
+
+        Assertions.assertSame(cachedContent, future.get());
+        Assertions.assertEquals(0, bufferPool.getUsedBytes());
+    }
+
+    @Test
+    public void notModifiedWithoutCachedContentFails() {
+        when(response.getStatus()).thenReturn(HttpStatus.NOT_MODIFIED_304);
+        HttpResponseListener listener = new HttpResponseListener(future, null, 1, bufferPool);
+
+        receive(listener);
+
+        Assertions.assertTrue(future.isCompletedExceptionally());
+    }
+}
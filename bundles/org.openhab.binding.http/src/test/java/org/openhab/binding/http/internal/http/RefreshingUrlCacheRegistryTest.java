@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+
+/**
+ * The {@link RefreshingUrlCacheRegistryTest} is a test class for sharing caches between things
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistryTest {
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final RefreshingUrlCacheRegistry registry = new RefreshingUrlCacheRegistry();
+    private final List<RateLimitedHttpClient> clients = new ArrayList<>();
+    private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+    private final Consumer<Content> firstConsumer = content -> {
+    };
+    private final Consumer<Content> secondConsumer = content -> {
+    };
+
+    private final Supplier<RefreshingUrlCache> factory = () -> {
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        futures.add(future);
+        doReturn(future).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        RateLimitedHttpClient client = mock(RateLimitedHttpClient.class);
+        clients.add(client);
+        return new RefreshingUrlCache(executor, client, true, "http://localhost/", new HttpThingConfig(),
+                new ResponseBufferPool(1024));
+    };
+
+    @BeforeEach
+    public void setUp() {
+        clients.clear();
+        futures.clear();
+    }
+
+    @Test
+    public void consumersOfSameKeyShareCache() {
+        RefreshingUrlCache first = registry.addConsumer("a", factory, firstConsumer);
+        RefreshingUrlCache second = registry.addConsumer("a", factory, secondConsumer);
+        RefreshingUrlCache other = registry.addConsumer("b", factory, firstConsumer);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, other);
+        Assertions.assertEquals(2, clients.size());
+    }
+
+    @Test
+    public void cacheIsStoppedWhenLastConsumerIsRemoved() {
+        RefreshingUrlCache cache = registry.addConsumer("a", factory, firstConsumer);
+        registry.addConsumer("a", factory, secondConsumer);
+
+        registry.removeConsumer(cache, firstConsumer);
+        verify(futures.get(0), never()).cancel(anyBoolean());
+        verify(clients.get(0), never()).shutdown();
+
+        registry.removeConsumer(cache, secondConsumer);
+        verify(futures.get(0)).cancel(false);
+        verify(clients.get(0)).shutdown();
+
+        // a stopped cache is not reused
+        Assertions.assertNotSame(cache, registry.addConsumer("a", factory, firstConsumer));
+        Assertions.assertEquals(2, clients.size());
+    }
+
+    @Test
+    public void stopStopsAllCaches() {
+        registry.addConsumer("a", factory, firstConsumer);
+        registry.addConsumer("b", factory, firstConsumer);
+
+        registry.stop();
+
+        futures.forEach(future -> verify(future).cancel(false));
+        clients.forEach(client -> verify(client).shutdown());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+
+/**
+ * The {@link RefreshingUrlCacheTest} is a test class for refreshing and passing content to consumers
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheTest {
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+    private final RateLimitedHttpClient httpClient = mock(RateLimitedHttpClient.class);
+    private final Request request = mock(Request.class);
+    private final HttpThingConfig config = new HttpThingConfig();
+    private final ResponseBufferPool bufferPool = new ResponseBufferPool(1024 * 1024);
+
+    private final List<Content> firstReceived = new ArrayList<>();
+    private final List<Content> secondReceived = new ArrayList<>();
+    private final Consumer<Content> firstConsumer = firstReceived::add;
+    private final Consumer<Content> secondConsumer = secondReceived::add;
+
+    private @Nullable Runnable refreshTask;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(scheduledFuture).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        when(httpClient.newRequest(any())).thenReturn(CompletableFuture.completedFuture(request));
+    }
+
+    private RefreshingUrlCache createCache(boolean ownsHttpClient) {
+        RefreshingUrlCache cache = new RefreshingUrlCache(executor, httpClient, ownsHttpClient, "http://localhost/",
+                config, bufferPool);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(captor.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+        refreshTask = captor.getValue();
+        return cache;
+    }
+
+    private void refreshWithResponse(int status, String body, @Nullable String eTag) {
+        Response response = mock(Response.class);
+        HttpFields headers = new HttpFields();
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain; charset=UTF-8");
+        if (eTag != null) {
+            headers.put(HttpHeader.ETAG, eTag);
+        }
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getStatus()).thenReturn(status);
+        doAnswer(invocation -> {
+            HttpResponseListener listener = invocation.getArgument(0);
+            listener.onHeaders(response);
+            if (!body.isEmpty()) {
+                listener.onContent(response, ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)));
+            }
+            listener.onComplete(new Result(request, response));
+            return null;
+        }).when(request).send(any(Response.CompleteListener.class));
+
+        Runnable refreshTask = this.refreshTask;
+        Assertions.assertNotNull(refreshTask);
+        refreshTask.run();
+    }
+
+    @Test
+    public void contentIsPassedToAllConsumers() {
+        RefreshingUrlCache cache = createCache(false);
+        cache.addConsumer(firstConsumer);
+        cache.addConsumer(secondConsumer);
+
+        refreshWithResponse(HttpStatus.OK_200, "value", null);
+        refreshWithResponse(HttpStatus.OK_200, "value", null);
+
+        Assertions.assertEquals(2, firstReceived.size());
+        Assertions.assertEquals(2, secondReceived.size());
+        Assertions.assertEquals("value", firstReceived.get(0).getAsString());
+        // equal content is reused
+        Assertions.assertSame(firstReceived.get(0), firstReceived.get(1));
+    }
+
+    @Test
+    public void skipUnchangedOnlyUpdatesNewConsumers() {
+        config.skipUnchanged = true;
+        RefreshingUrlCache cache = createCache(false);
+        cache.addConsumer(firstConsumer);
+
+        refreshWithResponse(HttpStatus.OK_200, "value", null);
+        refreshWithResponse(HttpStatus.OK_200, "value", null);
+        Assertions.assertEquals(1, firstReceived.size());
+
+        cache.addConsumer(secondConsumer);
+        refreshWithResponse(HttpStatus.OK_200, "value", null);
+        Assertions.assertEquals(1, firstReceived.size());
+        Assertions.assertEquals(1, secondReceived.size());
+
+        refreshWithResponse(HttpStatus.OK_200, "other", null);
+        Assertions.assertEquals(2, firstReceived.size());
+        Assertions.assertEquals(2, secondReceived.size());
+        Assertions.assertEquals("other", secondReceived.get(1).getAsString());
+    }
+
+    @Test
+    public void notModifiedReusesLastContent() {
+        RefreshingUrlCache cache = createCache(false);
+        cache.addConsumer(firstConsumer);
+
+        refreshWithResponse(HttpStatus.OK_200, "value", "\"1\"");
+        verify(request, never()).header(eq(HttpHeader.IF_NONE_MATCH), any());
+        refreshWithResponse(HttpStatus.NOT_MODIFIED_304, "", null);
+
+        verify(request).header(HttpHeader.IF_NONE_MATCH, "\"1\"");
+        Assertions.assertEquals(2, firstReceived.size());
+        Assertions.assertSame(firstReceived.get(0), firstReceived.get(1));
+        Assertions.assertSame(firstReceived.get(0), cache.get().orElse(null));
+    }
+
+    @Test
+    public void stopShutsDownOwnedClientOnly() {
+        createCache(false).stop();
+        verify(scheduledFuture).cancel(false);
+        verify(httpClient, never()).shutdown();
+
+        reset(executor);
+        doReturn(scheduledFuture).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        createCache(true).stop();
+        verify(httpClient).shutdown();
+    }
+}
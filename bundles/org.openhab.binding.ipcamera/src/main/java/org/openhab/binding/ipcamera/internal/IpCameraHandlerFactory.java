@@ -14,6 +14,8 @@ package org.openhab.binding.ipcamera.internal;
 
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ipcamera.internal.handler.IpCameraGroupHandler;
@@ -24,28 +26,65 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
 
 /**
  * The {@link IpCameraHandlerFactory} is responsible for creating things and thing
  * handlers.
  *
+ * All handlers share the Netty event loops of the factory, one for the connections to the cameras and one for the
+ * stream servers. The number of threads of each can be set in the binding configuration, 0 uses the Netty default.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @Component(service = ThingHandlerFactory.class, configurationPid = "binding.ipcamera")
 @NonNullByDefault
 public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
+    private final Logger logger = LoggerFactory.getLogger(IpCameraHandlerFactory.class);
     private final @Nullable String openhabIpAddress;
     private final GroupTracker groupTracker = new GroupTracker();
     private final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
+    private final EventLoopGroup mainEventLoopGroup;
+    private final EventLoopGroup serversLoopGroup;
 
     @Activate
     public IpCameraHandlerFactory(final @Reference NetworkAddressService networkAddressService,
-            final @Reference IpCameraDynamicStateDescriptionProvider stateDescriptionProvider) {
+            final @Reference IpCameraDynamicStateDescriptionProvider stateDescriptionProvider,
+            Map<String, Object> config) {
         openhabIpAddress = networkAddressService.getPrimaryIpv4HostAddress();
         this.stateDescriptionProvider = stateDescriptionProvider;
+        mainEventLoopGroup = new NioEventLoopGroup(getThreads(config, "eventLoopThreads"),
+                new DefaultThreadFactory("ipcamera-client", true));
+        serversLoopGroup = new NioEventLoopGroup(getThreads(config, "serverEventLoopThreads"),
+                new DefaultThreadFactory("ipcamera-server", true));
+    }
+
+    private int getThreads(Map<String, Object> config, String key) {
+        Object value = config.get(key);
+        if (value != null) {
+            try {
+                return Math.max(Integer.parseInt(value.toString()), 0);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, using the default", value, key);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        mainEventLoopGroup.shutdownGracefully();
+        serversLoopGroup.shutdownGracefully();
+        super.deactivate(componentContext);
     }
 
     @Override
@@ -61,9 +100,10 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
-            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider);
+            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider,
+                    mainEventLoopGroup, serversLoopGroup);
         } else if (GROUP_SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
-            return new IpCameraGroupHandler(thing, openhabIpAddress, groupTracker);
+            return new IpCameraGroupHandler(thing, openhabIpAddress, groupTracker, serversLoopGroup);
         }
         return null;
     }
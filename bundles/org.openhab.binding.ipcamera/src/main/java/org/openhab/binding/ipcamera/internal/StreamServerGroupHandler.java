@@ -138,7 +138,8 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
         IpCameraHandler handler = ipCameraGroupHandler.cameraOrder.get(ipCameraGroupHandler.cameraIndex);
         handler.lockCurrentSnapshot.lock();
         try {
-            ByteBuf snapshotData = Unpooled.copiedBuffer(handler.currentSnapshot);
+            // snapshots are never modified, so they are sent without a copy
+            ByteBuf snapshotData = Unpooled.wrappedBuffer(handler.currentSnapshot);
             response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
             response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
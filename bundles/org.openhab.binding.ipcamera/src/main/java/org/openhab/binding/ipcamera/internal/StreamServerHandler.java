@@ -26,6 +26,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -57,9 +59,9 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
     private IpCameraHandler ipCameraHandler;
     private boolean handlingMjpeg = false; // used to remove ctx from group when handler is removed.
     private boolean handlingSnapshotStream = false; // used to remove ctx from group when handler is removed.
-    private byte[] incomingJpeg = new byte[0];
+    // the received chunks are collected without copying them until the content is complete
+    private @Nullable CompositeByteBuf incomingJpeg;
     private String whiteList = "";
-    private int recievedBytes = 0;
     private boolean updateSnapshot = false;
     private boolean onvifEvent = false;
 
@@ -176,27 +178,29 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
             }
             if (msg instanceof HttpContent) {
                 HttpContent content = (HttpContent) msg;
-                if (recievedBytes == 0) {
-                    incomingJpeg = new byte[content.content().readableBytes()];
-                    content.content().getBytes(0, incomingJpeg, 0, content.content().readableBytes());
-                } else {
-                    byte[] temp = incomingJpeg;
-                    incomingJpeg = new byte[recievedBytes + content.content().readableBytes()];
-                    System.arraycopy(temp, 0, incomingJpeg, 0, temp.length);
-                    content.content().getBytes(0, incomingJpeg, temp.length, content.content().readableBytes());
+                CompositeByteBuf incomingJpeg = this.incomingJpeg;
+                if (incomingJpeg == null) {
+                    incomingJpeg = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+                    this.incomingJpeg = incomingJpeg;
                 }
-                recievedBytes = incomingJpeg.length;
+                // retained as msg is released below
+                incomingJpeg.addComponent(true, content.content().retain());
                 if (content instanceof LastHttpContent) {
+                    this.incomingJpeg = null;
                     if (updateSnapshot) {
-                        ipCameraHandler.processSnapshot(incomingJpeg);
+                        ipCameraHandler.processSnapshot(ByteBufUtil.getBytes(incomingJpeg));
+                        incomingJpeg.release();
                     } else if (onvifEvent) {
-                        ipCameraHandler.onvifCamera.eventRecieved(new String(incomingJpeg, StandardCharsets.UTF_8));
+                        ipCameraHandler.onvifCamera.eventRecieved(incomingJpeg.toString(StandardCharsets.UTF_8));
+                        incomingJpeg.release();
                     } else { // handles the snapshots that make up mjpeg from rtsp to ffmpeg conversions.
-                        if (recievedBytes > 1000) {
+                        if (incomingJpeg.readableBytes() > 1000) {
+                            // the chunks are sent to the clients without copying them
                             ipCameraHandler.sendMjpegFrame(incomingJpeg, ipCameraHandler.mjpegChannelGroup);
+                        } else {
+                            incomingJpeg.release();
                         }
                     }
-                    recievedBytes = 0;
                 }
             }
         } finally {
@@ -208,7 +212,8 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
         HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
         ipCameraHandler.lockCurrentSnapshot.lock();
         try {
-            ByteBuf snapshotData = Unpooled.copiedBuffer(ipCameraHandler.currentSnapshot);
+            // snapshots are never modified, so they are sent without a copy
+            ByteBuf snapshotData = Unpooled.wrappedBuffer(ipCameraHandler.currentSnapshot);
             response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
             response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
@@ -280,6 +285,11 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void handlerRemoved(@Nullable ChannelHandlerContext ctx) {
+        CompositeByteBuf incomingJpeg = this.incomingJpeg;
+        if (incomingJpeg != null) {
+            this.incomingJpeg = null;
+            incomingJpeg.release();
+        }
         if (ctx == null) {
             return;
         }
@@ -23,10 +23,10 @@ import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -78,6 +78,8 @@ import org.slf4j.LoggerFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -89,7 +91,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -136,6 +137,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private final ChannelGroup snapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private final ChannelGroup autoSnapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     public final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    // the server and the channels of its clients, the shared event loop is not shut down to close them
+    private final ChannelGroup serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     public @Nullable Ffmpeg ffmpegHLS = null;
     public @Nullable Ffmpeg ffmpegRecord = null;
     public @Nullable Ffmpeg ffmpegGIF = null;
@@ -151,8 +154,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable Bootstrap mainBootstrap;
     private @Nullable ServerBootstrap serverBootstrap;
 
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
-    private EventLoopGroup serversLoopGroup = new NioEventLoopGroup();
+    private final EventLoopGroup mainEventLoopGroup;
+    private final EventLoopGroup serversLoopGroup;
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod("PUT"),
             "");
     private String gifFilename = "ipcamera";
@@ -163,7 +166,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    // snapshots are never modified once received, so the pre-roll keeps references instead of copies
+    private final ArrayDeque<byte[]> fifoSnapshotBuffer = new ArrayDeque<>();
     private int snapCount;
     private boolean updateImageChannel = false;
     private boolean updateAutoFps = false;
@@ -203,7 +207,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private class CommonCameraHandler extends ChannelDuplexHandler {
         private int bytesToRecieve = 0;
         private int bytesAlreadyRecieved = 0;
-        private byte[] incomingJpeg = new byte[0];
+        // the received chunks are collected without copying them until the image is complete
+        private @Nullable CompositeByteBuf incomingJpeg;
         private String incomingMessage = "";
         private String contentType = "empty";
         private Object reply = new Object();
@@ -257,11 +262,8 @@ public class IpCameraHandler extends BaseThingHandler {
                                     }
                                 }
                             } else if (contentType.contains("image/jp")) {
-                                if (bytesToRecieve == 0) {
-                                    bytesToRecieve = 768000; // 0.768 Mbyte when no Content-Length is sent
-                                    logger.debug("Camera has no Content-Length header, we have to guess how much RAM.");
-                                }
-                                incomingJpeg = new byte[bytesToRecieve];
+                                releaseIncomingJpeg();
+                                incomingJpeg = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
                             }
                         }
                     }
@@ -275,11 +277,21 @@ public class IpCameraHandler extends BaseThingHandler {
                         HttpContent content = (HttpContent) msg;
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
                         if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
+                            CompositeByteBuf incomingJpeg = this.incomingJpeg;
+                            if (incomingJpeg != null) {
+                                bytesAlreadyRecieved += content.content().readableBytes();
+                                // retained as msg is released below
+                                incomingJpeg.addComponent(true, content.content().retain());
                             }
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                if (incomingJpeg != null) {
+                                    this.incomingJpeg = null;
+                                    try {
+                                        processSnapshot(ByteBufUtil.getBytes(incomingJpeg));
+                                    } finally {
+                                        incomingJpeg.release();
+                                    }
+                                }
                                 // testing next line and if works need to do a full cleanup of this function.
                                 closeConnection = true;
                                 if (closeConnection) {
@@ -344,6 +356,15 @@ public class IpCameraHandler extends BaseThingHandler {
 
         @Override
         public void handlerRemoved(@Nullable ChannelHandlerContext ctx) {
+            releaseIncomingJpeg();
+        }
+
+        private void releaseIncomingJpeg() {
+            CompositeByteBuf incomingJpeg = this.incomingJpeg;
+            if (incomingJpeg != null) {
+                this.incomingJpeg = null;
+                incomingJpeg.release();
+            }
         }
 
         @Override
@@ -395,9 +416,12 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, EventLoopGroup mainEventLoopGroup,
+            EventLoopGroup serversLoopGroup) {
         super(thing);
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.mainEventLoopGroup = mainEventLoopGroup;
+        this.serversLoopGroup = serversLoopGroup;
         if (ipAddress != null) {
             hostIp = ipAddress;
         } else {
@@ -410,6 +434,13 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    /**
+     * @return the event loop shared by the connections to all cameras
+     */
+    public EventLoopGroup getMainEventLoopGroup() {
+        return mainEventLoopGroup;
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -656,7 +687,7 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public void stopStreamServer() {
-        serversLoopGroup.shutdownGracefully();
+        serverChannels.close();
         serverBootstrap = null;
     }
 
@@ -664,7 +695,6 @@ public class IpCameraHandler extends BaseThingHandler {
     public void startStreamServer() {
         if (serverBootstrap == null) {
             try {
-                serversLoopGroup = new NioEventLoopGroup();
                 serverBootstrap = new ServerBootstrap();
                 serverBootstrap.group(serversLoopGroup);
                 serverBootstrap.channel(NioServerSocketChannel.class);
@@ -673,6 +703,7 @@ public class IpCameraHandler extends BaseThingHandler {
                 serverBootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
+                        serverChannels.add(socketChannel);
                         socketChannel.pipeline().addLast("idleStateHandler", new IdleStateHandler(0, 60, 0));
                         socketChannel.pipeline().addLast("HttpServerCodec", new HttpServerCodec());
                         socketChannel.pipeline().addLast("ChunkedWriteHandler", new ChunkedWriteHandler());
@@ -680,6 +711,7 @@ public class IpCameraHandler extends BaseThingHandler {
                     }
                 });
                 serverFuture = serverBootstrap.bind().sync();
+                serverChannels.add(serverFuture.channel());
                 serverFuture.await(4000);
                 logger.debug("File server for camera at {} has started on port {} for all NIC's.", cameraConfig.getIp(),
                         cameraConfig.getServerPort());
@@ -836,16 +868,28 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public void sendMjpegFrame(byte[] jpg, ChannelGroup channelGroup) {
+        // snapshots are never modified, so they are sent without a copy
+        sendMjpegFrame(Unpooled.wrappedBuffer(jpg), channelGroup);
+    }
+
+    /**
+     * Sends a frame to all channels of the group. Each channel gets a retained duplicate of the same buffer.
+     *
+     * @param jpg the frame, released when it is sent
+     * @param channelGroup the channels streaming the MJPEG
+     */
+    public void sendMjpegFrame(ByteBuf jpg, ChannelGroup channelGroup) {
+        if (channelGroup.isEmpty()) {
+            jpg.release();
+            return;
+        }
         final String boundary = "thisMjpegStream";
-        ByteBuf imageByteBuf = Unpooled.copiedBuffer(jpg);
-        int length = imageByteBuf.readableBytes();
+        int length = jpg.readableBytes();
         String header = "--" + boundary + "\r\n" + "content-type: image/jpeg" + "\r\n" + "content-length: " + length
                 + "\r\n\r\n";
         ByteBuf headerBbuf = Unpooled.copiedBuffer(header, 0, header.length(), StandardCharsets.UTF_8);
         ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
-        streamToGroup(headerBbuf, channelGroup, false);
-        streamToGroup(imageByteBuf, channelGroup, false);
-        streamToGroup(footerBbuf, channelGroup, true);
+        streamToGroup(Unpooled.wrappedBuffer(headerBbuf, jpg, footerBbuf), channelGroup, true);
     }
 
     public void streamToGroup(Object msg, ChannelGroup channelGroup, boolean flush) {
@@ -1769,6 +1813,12 @@ public class IpCameraHandler extends BaseThingHandler {
             localFfmpeg.stopConverting();
         }
         channelTrackingMap.clear();
+        lockCurrentSnapshot.lock();
+        try {
+            fifoSnapshotBuffer.clear();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
     }
 
     public void setStreamServerHandler(StreamServerHandler streamServerHandler2) {
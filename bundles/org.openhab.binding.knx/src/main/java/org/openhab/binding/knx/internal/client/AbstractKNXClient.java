@@ -12,9 +12,13 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -85,8 +89,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners per group address and the indexed group addresses per listener, modified while holding the latter
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new HashMap<>();
+    // telegrams waiting for dispatching per group address, an address is present while its telegrams are dispatched
+    private final Map<GroupAddress, Queue<Runnable>> pendingTelegrams = new HashMap<>();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -132,6 +140,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
+        this.readScheduler = new ReadScheduler(readingPause);
     }
 
     public void initialize() {
@@ -224,7 +233,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     @SuppressWarnings("null")
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        if (readScheduler.getReadCount() > 0) {
+            logger.debug("Bridge {} read {} datapoints ({} failed reads), average latency {} ms, maximum {} ms",
+                    thingUID, readScheduler.getReadCount(), readScheduler.getFailedReadCount(),
+                    readScheduler.getAverageLatency(), readScheduler.getMaxLatency());
+        }
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
@@ -251,11 +265,55 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         GroupAddress destination = event.getDestination();
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
+        readScheduler.telegramReceived(System.currentTimeMillis());
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners == null || listeners.isEmpty()) {
+            return;
+        }
+        dispatchTelegram(destination, () -> {
+            for (GroupAddressListener listener : listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("An error occurred processing a {} telegram to '{}'", task, destination, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Notifies the listeners of all telegrams on one scheduler task per group address, so the telegrams to a group
+     * address are processed in the order they were received.
+     */
+    private void dispatchTelegram(GroupAddress destination, Runnable notification) {
+        boolean schedule = false;
+        synchronized (pendingTelegrams) {
+            Queue<Runnable> telegrams = pendingTelegrams.get(destination);
+            if (telegrams == null) {
+                telegrams = new ArrayDeque<>();
+                pendingTelegrams.put(destination, telegrams);
+                schedule = true;
+            }
+            telegrams.add(notification);
+        }
+        if (schedule) {
+            knxScheduler.execute(() -> processPendingTelegrams(destination));
+        }
+    }
+
+    private void processPendingTelegrams(GroupAddress destination) {
+        while (true) {
+            Runnable notification;
+            synchronized (pendingTelegrams) {
+                Queue<Runnable> telegrams = pendingTelegrams.get(destination);
+                notification = telegrams != null ? telegrams.poll() : null;
+                if (notification == null) {
+                    pendingTelegrams.remove(destination);
+                    return;
+                }
             }
+            notification.run();
         }
     }
 
@@ -280,15 +338,23 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        if (!readScheduler.isReadDue(System.currentTimeMillis())) {
+            return;
+        }
+        ReadDatapoint datapoint = readScheduler.poll();
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                readScheduler.readSucceeded(datapoint, System.currentTimeMillis());
+                if (readScheduler.getQueueSize() == 0) {
+                    logger.trace("Read queue is empty, average read latency {} ms, current pause {} ms",
+                            readScheduler.getAverageLatency(), readScheduler.getPause());
+                }
             } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                readScheduler.readFailed(System.currentTimeMillis());
+                if (readScheduler.retry(datapoint)) {
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -367,23 +433,41 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.add(new ReadDatapoint(datapoint, readRetriesLimit), priority);
     }
 
     @Override
     public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+        synchronized (listenerGroupAddresses) {
+            Set<GroupAddress> previous = removeFromIndex(listener);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+            listenerGroupAddresses.put(listener, groupAddresses);
+            return previous == null;
+        }
     }
 
     @Override
     public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            return removeFromIndex(listener) != null;
+        }
+    }
+
+    private @Nullable Set<GroupAddress> removeFromIndex(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+        if (groupAddresses != null) {
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
+        return groupAddresses;
     }
 
     @Override
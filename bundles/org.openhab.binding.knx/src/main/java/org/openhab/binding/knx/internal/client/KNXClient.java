@@ -61,7 +61,8 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic to its group addresses. Registering a listener
+     * again updates its group addresses.
      *
      * @param listener the listener
      * @return {@code true} if it wasn't registered before
@@ -80,8 +81,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority the priority class of the read
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
@@ -24,6 +24,8 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private ReadPriority priority = ReadPriority.PERIODIC;
+    private long queuedAt;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
         this.datapoint = datapoint;
@@ -31,6 +33,25 @@ public class ReadDatapoint {
         this.limit = limit;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ReadPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} when the read was requested
+     */
+    public long getQueuedAt() {
+        return queuedAt;
+    }
+
+    public void setQueuedAt(long queuedAt) {
+        this.queuedAt = queuedAt;
+    }
+
     public Datapoint getDatapoint() {
         return datapoint;
     }
@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+/**
+ * Priority classes of datapoint reads, in the order they are read from the KNX bus.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public enum ReadPriority {
+    /** Reads requested by a user, e.g. a refresh command or a new link */
+    INTERACTIVE,
+    /** Reads of the configured read interval */
+    PERIODIC,
+    /** Initial reads when a thing is attached to the bus, e.g. after a reconnect */
+    STARTUP
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queues datapoints to be read from the KNX bus and paces the reads.
+ * <p>
+ * Datapoints are read in the order of their {@link ReadPriority}, a group address is queued at most once. Requesting
+ * a queued group address with a higher priority moves it to the higher priority class. Failed reads are retried
+ * before the other datapoints of their class.
+ * <p>
+ * The pause between reads starts at the configured reading pause. It is doubled after a failed read, which usually
+ * means the bus or the interface is overloaded, and shrinks back after successful reads. While the bus is busy with
+ * other telegrams, the pause is doubled as well.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+
+    // maximum pause in milliseconds between reads
+    private static final int MAX_PAUSE = 5000;
+    // minimum pause in milliseconds after a failed read
+    private static final int MIN_FAILURE_PAUSE = 100;
+    // received telegrams per second above which the bus is considered busy
+    private static final int BUS_LOAD_THRESHOLD = 30;
+    private static final long BUS_LOAD_WINDOW = 1000;
+
+    private final int minPause;
+    private final int maxPause;
+
+    private final Map<ReadPriority, Deque<ReadDatapoint>> queues = new EnumMap<>(ReadPriority.class);
+    // queued datapoints by group address, the queues may contain outdated entries of promoted datapoints
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+
+    private int pause;
+    private long nextReadTime = 0;
+
+    private long busLoadWindowStart = 0;
+    private int telegramsInWindow = 0;
+    private int telegramsInLastWindow = 0;
+
+    private long readCount = 0;
+    private long failedReadCount = 0;
+    private long totalLatency = 0;
+    private long maxLatency = 0;
+
+    /**
+     * @param readingPause the minimum pause in milliseconds between reads
+     */
+    public ReadScheduler(int readingPause) {
+        this.minPause = Math.max(readingPause, 0);
+        this.maxPause = Math.max(MAX_PAUSE, minPause);
+        this.pause = minPause;
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Queues a datapoint for reading.
+     *
+     * @param datapoint the datapoint to read
+     * @param priority the priority class of the read
+     * @return {@code true} if the group address was not queued before
+     */
+    public synchronized boolean add(ReadDatapoint datapoint, ReadPriority priority) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint existing = queued.get(address);
+        if (existing != null) {
+            if (priority.compareTo(existing.getPriority()) < 0) {
+                // the entry in the lower priority queue is skipped when it is polled
+                existing.setPriority(priority);
+                queue(priority).addLast(existing);
+            }
+            return false;
+        }
+        datapoint.setPriority(priority);
+        datapoint.setQueuedAt(System.nanoTime());
+        queued.put(address, datapoint);
+        queue(priority).addLast(datapoint);
+        return true;
+    }
+
+    /**
+     * Queues a failed read again, before the other datapoints of its priority class.
+     *
+     * @param datapoint the datapoint which could not be read
+     * @return {@code false} if the retry limit of the datapoint is reached
+     */
+    public synchronized boolean retry(ReadDatapoint datapoint) {
+        if (datapoint.getRetries() >= datapoint.getLimit()) {
+            return false;
+        }
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        if (!queued.containsKey(address)) {
+            queued.put(address, datapoint);
+            queue(datapoint.getPriority()).addFirst(datapoint);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the next datapoint to read.
+     *
+     * @return the datapoint of the highest priority class or {@code null} if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            Deque<ReadDatapoint> queue = queue(priority);
+            ReadDatapoint datapoint;
+            while ((datapoint = queue.pollFirst()) != null) {
+                GroupAddress address = datapoint.getDatapoint().getMainAddress();
+                if (datapoint.getPriority() == priority && queued.get(address) == datapoint) {
+                    queued.remove(address);
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Deque<ReadDatapoint> queue(ReadPriority priority) {
+        Deque<ReadDatapoint> queue = queues.get(priority);
+        if (queue == null) {
+            throw new IllegalStateException("No queue for priority " + priority);
+        }
+        return queue;
+    }
+
+    /**
+     * Removes all queued datapoints.
+     */
+    public synchronized void clear() {
+        queues.values().forEach(Deque::clear);
+        queued.clear();
+        pause = minPause;
+        nextReadTime = 0;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return {@code true} if the pause after the last read is over
+     */
+    public synchronized boolean isReadDue(long now) {
+        return now >= nextReadTime;
+    }
+
+    /**
+     * Records a successful read and shortens the pause.
+     *
+     * @param datapoint the datapoint which was read
+     * @param now the current time in milliseconds
+     */
+    public synchronized void readSucceeded(ReadDatapoint datapoint, long now) {
+        long latency = System.nanoTime() - datapoint.getQueuedAt();
+        readCount++;
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
+        pause = Math.max(minPause, pause * 3 / 4);
+        scheduleNextRead(now);
+    }
+
+    /**
+     * Records a failed read and doubles the pause.
+     *
+     * @param now the current time in milliseconds
+     */
+    public synchronized void readFailed(long now) {
+        failedReadCount++;
+        pause = Math.min(maxPause, Math.max(2 * pause, MIN_FAILURE_PAUSE));
+        scheduleNextRead(now);
+    }
+
+    private void scheduleNextRead(long now) {
+        nextReadTime = now + (isBusBusy(now) ? 2L * pause : pause);
+    }
+
+    /**
+     * Records a telegram received from the bus, to estimate the bus load.
+     *
+     * @param now the current time in milliseconds
+     */
+    public synchronized void telegramReceived(long now) {
+        if (now - busLoadWindowStart >= BUS_LOAD_WINDOW) {
+            telegramsInLastWindow = now - busLoadWindowStart < 2 * BUS_LOAD_WINDOW ? telegramsInWindow : 0;
+            busLoadWindowStart = now;
+            telegramsInWindow = 0;
+        }
+        telegramsInWindow++;
+    }
+
+    private boolean isBusBusy(long now) {
+        if (now - busLoadWindowStart >= 2 * BUS_LOAD_WINDOW) {
+            return false;
+        }
+        return telegramsInWindow > BUS_LOAD_THRESHOLD
+                || (now - busLoadWindowStart < BUS_LOAD_WINDOW && telegramsInLastWindow > BUS_LOAD_THRESHOLD);
+    }
+
+    /**
+     * @return the current pause in milliseconds between reads, without the bus load
+     */
+    public synchronized int getPause() {
+        return pause;
+    }
+
+    /**
+     * @return number of queued datapoints
+     */
+    public synchronized int getQueueSize() {
+        return queued.size();
+    }
+
+    /**
+     * @return number of queued datapoints of the priority class
+     */
+    public synchronized int getQueueSize(ReadPriority priority) {
+        return (int) queued.values().stream().filter(datapoint -> datapoint.getPriority() == priority).count();
+    }
+
+    /**
+     * @return number of successful reads
+     */
+    public synchronized long getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * @return number of failed reads, including retried ones
+     */
+    public synchronized long getFailedReadCount() {
+        return failedReadCount;
+    }
+
+    /**
+     * @return average time in milliseconds from requesting to successfully reading a datapoint
+     */
+    public synchronized long getAverageLatency() {
+        return readCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / readCount);
+    }
+
+    /**
+     * @return maximum time in milliseconds from requesting to successfully reading a datapoint
+     */
+    public synchronized long getMaxLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency);
+    }
+}
@@ -24,6 +24,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.openhab.binding.knx.internal.KNXTypeMapper;
 import org.openhab.core.library.types.DateTimeType;
@@ -107,6 +109,32 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /** translators for decoding telegrams and their type information, by datapoint type id */
+    private final Map<String, CachedTranslator> translators = new ConcurrentHashMap<>();
+
+    /**
+     * Translator of a datapoint type with its type information. Translators keep the decoded data, so a translator is
+     * taken out of the cache while it is in use and concurrent decoding creates additional ones.
+     */
+    private static class CachedTranslator {
+        private final AtomicReference<DPTXlator> idleTranslator;
+        private final int requestedMainNumber;
+        private final String id;
+        private final int mainNumber;
+        private final int subNumber;
+        private final Class<? extends Type> typeClass;
+
+        private CachedTranslator(DPTXlator translator, int requestedMainNumber, String id, int mainNumber,
+                int subNumber, Class<? extends Type> typeClass) {
+            this.idleTranslator = new AtomicReference<>(translator);
+            this.requestedMainNumber = requestedMainNumber;
+            this.id = id;
+            this.mainNumber = mainNumber;
+            this.subNumber = subNumber;
+            this.typeClass = typeClass;
+        }
+    }
+
     public KNXCoreTypeMapper() {
         @SuppressWarnings("unused")
         final List<Class<?>> xlators = Arrays.<Class<?>> asList(DPTXlator1BitControlled.class,
@@ -672,20 +700,31 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
+        CachedTranslator cachedTranslator = null;
+        DPTXlator translator = null;
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
+            cachedTranslator = getCachedTranslator(datapoint);
+            Type directType = toTypeDirectly(cachedTranslator, data);
+            if (directType != null) {
+                return directType;
+            }
+
+            translator = cachedTranslator.idleTranslator.getAndSet(null);
+            if (translator == null) {
+                translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
+            }
             translator.setData(data);
             String value = translator.getValue();
 
-            String id = translator.getType().getID();
+            String id = cachedTranslator.id;
             logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
 
-            int mainNumber = getMainNumber(id);
+            int mainNumber = cachedTranslator.mainNumber;
             if (mainNumber == -1) {
                 logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
                 return null;
             }
-            int subNumber = getSubNumber(id);
+            int subNumber = cachedTranslator.subNumber;
             if (subNumber == -1) {
                 logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
                 return null;
@@ -696,21 +735,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
              */
             switch (mainNumber) {
                 case 1:
-                    DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
-                    switch (subNumber) {
-                        case 8:
-                            return translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
-                        case 9:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 10:
-                            return translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-                        case 19:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 22:
-                            return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
-                        default:
-                            return translatorBoolean.getValueBoolean() ? OnOffType.ON : OnOffType.OFF;
-                    }
+                    return toBooleanType(subNumber, ((DPTXlatorBoolean) translator).getValueBoolean());
                 case 2:
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -812,7 +837,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                     break;
             }
 
-            Class<? extends Type> typeClass = toTypeClass(id);
+            Class<? extends Type> typeClass = cachedTranslator.typeClass;
             if (typeClass == null) {
                 return null;
             }
@@ -854,11 +879,101 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                     datapoint.getDPT());
         } catch (KNXException e) {
             logger.warn("Failed creating a translator for datapoint type '{}'.", datapoint.getDPT(), e);
+        } finally {
+            if (cachedTranslator != null && translator != null) {
+                cachedTranslator.idleTranslator.set(translator);
+            }
+        }
+
+        return null;
+    }
+
+    private CachedTranslator getCachedTranslator(Datapoint datapoint) throws KNXException {
+        String dpt = datapoint.getDPT();
+        CachedTranslator cachedTranslator = translators.get(dpt);
+        if (cachedTranslator == null || cachedTranslator.requestedMainNumber != datapoint.getMainNumber()) {
+            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), dpt);
+            String id = translator.getType().getID();
+            cachedTranslator = new CachedTranslator(translator, datapoint.getMainNumber(), id, getMainNumber(id),
+                    getSubNumber(id), toTypeClass(id));
+            translators.put(dpt, cachedTranslator);
+        }
+        return cachedTranslator;
+    }
+
+    /**
+     * Decodes the most common datapoint types directly from the telegram data, without the string conversions of the
+     * translators. The results are the same as the ones of the translators.
+     *
+     * @return the type or {@code null} if the translator has to decode the data
+     */
+    private Type toTypeDirectly(CachedTranslator cachedTranslator, byte[] data) {
+        Class<? extends Type> typeClass = cachedTranslator.typeClass;
+        switch (cachedTranslator.mainNumber) {
+            case 1:
+                if (data.length != 1) {
+                    return null;
+                }
+                return toBooleanType(cachedTranslator.subNumber, (data[0] & 0x01) != 0);
+            case 5:
+                if (data.length != 1) {
+                    return null;
+                }
+                int unsigned = data[0] & 0xff;
+                if (cachedTranslator.subNumber == 1) {
+                    // DPT_Scaling
+                    unsigned = Math.round(unsigned * 100.0f / 255);
+                } else if (cachedTranslator.subNumber == 3) {
+                    // DPT_Angle
+                    unsigned = Math.round(unsigned * 360.0f / 255);
+                }
+                return toNumericType(typeClass, unsigned);
+            case 9:
+                if (data.length != 2) {
+                    return null;
+                }
+                // MEEEEMMM MMMMMMMM: value = 0.01 * M * 2^E with the mantissa M as 12 bit two's complement
+                int exponent = (data[0] & 0x78) >> 3;
+                int mantissa = ((data[0] & 0x80) << 24 | (data[0] & 0x07) << 28 | (data[1] & 0xff) << 20) >> 20;
+                return toNumericType(typeClass, (1 << exponent) * mantissa * 0.01);
+            case 14:
+                if (data.length != 4) {
+                    return null;
+                }
+                int bits = (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff);
+                return toNumericType(typeClass, Float.intBitsToFloat(bits));
+            default:
+                return null;
         }
+    }
 
+    private Type toNumericType(Class<? extends Type> typeClass, double value) {
+        if (PercentType.class.equals(typeClass)) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+        if (DecimalType.class.equals(typeClass)) {
+            return new DecimalType(value);
+        }
         return null;
     }
 
+    private Type toBooleanType(int subNumber, boolean value) {
+        switch (subNumber) {
+            case 8:
+                return value ? UpDownType.DOWN : UpDownType.UP;
+            case 9:
+                return value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case 10:
+                return value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case 19:
+                return value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case 22:
+                return DecimalType.valueOf(value ? "1" : "0");
+            default:
+                return value ? OnOffType.ON : OnOffType.OFF;
+        }
+    }
+
     /**
      * Converts a datapoint type id into an openHAB type class
      *
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * Tests for the {@link ReadScheduler}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadSchedulerTest {
+
+    private static ReadDatapoint datapoint(String groupAddress) throws KNXFormatException {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001"), 3);
+    }
+
+    private static String address(ReadDatapoint datapoint) {
+        return datapoint.getDatapoint().getMainAddress().toString();
+    }
+
+    @Test
+    public void readsHigherPriorityClassesFirst() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(50);
+        scheduler.add(datapoint("1/1/1"), ReadPriority.STARTUP);
+        scheduler.add(datapoint("1/1/2"), ReadPriority.PERIODIC);
+        scheduler.add(datapoint("1/1/3"), ReadPriority.INTERACTIVE);
+        scheduler.add(datapoint("1/1/4"), ReadPriority.STARTUP);
+
+        assertEquals(1, scheduler.getQueueSize(ReadPriority.INTERACTIVE));
+        assertEquals(2, scheduler.getQueueSize(ReadPriority.STARTUP));
+        assertEquals("1/1/3", address(scheduler.poll()));
+        assertEquals("1/1/2", address(scheduler.poll()));
+        assertEquals("1/1/1", address(scheduler.poll()));
+        assertEquals("1/1/4", address(scheduler.poll()));
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void queuesGroupAddressOnceAndPromotesIt() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(50);
+        assertTrue(scheduler.add(datapoint("1/1/1"), ReadPriority.STARTUP));
+        assertTrue(scheduler.add(datapoint("1/1/2"), ReadPriority.STARTUP));
+        assertFalse(scheduler.add(datapoint("1/1/2"), ReadPriority.INTERACTIVE));
+        assertFalse(scheduler.add(datapoint("1/1/1"), ReadPriority.PERIODIC));
+
+        assertEquals(2, scheduler.getQueueSize());
+        assertEquals("1/1/2", address(scheduler.poll()));
+        assertEquals("1/1/1", address(scheduler.poll()));
+        assertNull(scheduler.poll());
+        assertEquals(0, scheduler.getQueueSize());
+    }
+
+    @Test
+    public void retriesFailedReadFirstUntilLimit() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(50);
+        scheduler.add(datapoint("1/1/1"), ReadPriority.STARTUP);
+        scheduler.add(datapoint("1/1/2"), ReadPriority.STARTUP);
+
+        ReadDatapoint failed = scheduler.poll();
+        assertNotNull(failed);
+        for (int i = 0; i < 2; i++) {
+            failed.incrementRetries();
+            assertTrue(scheduler.retry(failed));
+            assertSame(failed, scheduler.poll());
+        }
+        failed.incrementRetries();
+        assertFalse(scheduler.retry(failed));
+        assertEquals("1/1/2", address(scheduler.poll()));
+    }
+
+    @Test
+    public void adaptsPauseToFailures() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(50);
+        ReadDatapoint datapoint = datapoint("1/1/1");
+        scheduler.add(datapoint, ReadPriority.INTERACTIVE);
+        assertTrue(scheduler.isReadDue(0));
+
+        scheduler.readFailed(1000);
+        assertEquals(100, scheduler.getPause());
+        assertFalse(scheduler.isReadDue(1099));
+        assertTrue(scheduler.isReadDue(1100));
+
+        scheduler.readFailed(2000);
+        assertEquals(200, scheduler.getPause());
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.readSucceeded(datapoint, 3000);
+        }
+        assertEquals(50, scheduler.getPause());
+        assertEquals(10, scheduler.getReadCount());
+        assertEquals(2, scheduler.getFailedReadCount());
+    }
+
+    @Test
+    public void slowsDownOnBusyBus() {
+        ReadScheduler scheduler = new ReadScheduler(50);
+        for (int i = 0; i < 40; i++) {
+            scheduler.telegramReceived(1000 + i);
+        }
+        scheduler.readFailed(1100);
+        assertFalse(scheduler.isReadDue(1299));
+        assertTrue(scheduler.isReadDue(1300));
+
+        // the bus is idle again after two seconds without telegrams
+        scheduler.readFailed(5000);
+        assertTrue(scheduler.isReadDue(5200));
+    }
+}
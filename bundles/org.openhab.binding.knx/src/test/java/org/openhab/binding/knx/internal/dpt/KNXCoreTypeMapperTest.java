@@ -14,8 +14,21 @@ package org.openhab.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.Type;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  *
@@ -29,4 +42,64 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    private static Type toType(KNXCoreTypeMapper mapper, String dpt, byte... data) {
+        return mapper.toType(new CommandDP(new GroupAddress(1, 2, 3), "test", 0, dpt), data);
+    }
+
+    private static double translatorValue(String dpt, byte... data) throws KNXException {
+        DPTXlator translator = TranslatorTypes.createTranslator(0, dpt);
+        translator.setData(data);
+        return translator.getNumericValue();
+    }
+
+    @Test
+    public void testToType_booleanDecodedDirectly() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, toType(mapper, "1.001", (byte) 0x01));
+        assertEquals(OnOffType.OFF, toType(mapper, "1.001", (byte) 0x00));
+        assertEquals(UpDownType.DOWN, toType(mapper, "1.008", (byte) 0x01));
+        assertEquals(OpenClosedType.CLOSED, toType(mapper, "1.019", (byte) 0x00));
+        assertEquals(new DecimalType(1), toType(mapper, "1.022", (byte) 0x01));
+    }
+
+    @Test
+    public void testToType_8BitUnsignedLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        for (int i = 0; i < 256; i++) {
+            byte data = (byte) i;
+            assertEquals(new PercentType(BigDecimal.valueOf(Math.round(translatorValue("5.001", data)))),
+                    toType(mapper, "5.001", data));
+            assertEquals(new DecimalType(translatorValue("5.003", data)), toType(mapper, "5.003", data));
+            assertEquals(new DecimalType(translatorValue("5.010", data)), toType(mapper, "5.010", data));
+        }
+    }
+
+    @Test
+    public void testToType_2ByteFloatLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        byte[][] telegrams = { { 0x0c, 0x1a }, { 0x07, (byte) 0xff }, { (byte) 0x87, 0x00 }, { (byte) 0x8a, 0x24 },
+                { 0x00, 0x00 }, { 0x2e, 0x2d } };
+        for (byte[] data : telegrams) {
+            assertEquals(new DecimalType(translatorValue("9.001", data)), toType(mapper, "9.001", data));
+        }
+        assertEquals(new DecimalType(21.0), toType(mapper, "9.001", (byte) 0x0c, (byte) 0x1a));
+    }
+
+    @Test
+    public void testToType_4ByteFloatLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        byte[][] telegrams = { { 0x41, (byte) 0xa4, 0x00, 0x00 }, { (byte) 0xc2, (byte) 0xc8, 0x00, 0x00 },
+                { 0x60, 0x2d, 0x79, (byte) 0x83 } };
+        for (byte[] data : telegrams) {
+            assertEquals(new DecimalType(translatorValue("14.019", data)), toType(mapper, "14.019", data));
+        }
+        assertEquals(new DecimalType(20.5), toType(mapper, "14.019", (byte) 0x41, (byte) 0xa4, (byte) 0x00,
+                (byte) 0x00));
+    }
+
+    @Test
+    public void testToType_invalidLengthUsesTranslator() {
+        assertNull(toType(new KNXCoreTypeMapper(), "9.001", (byte) 0x0c));
+    }
 }
@@ -32,6 +32,7 @@ import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.OnOffValue;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.binding.mqtt.handler.AbstractBrokerHandler;
+import org.openhab.binding.mqtt.handler.InboundMessageProcessor;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
@@ -84,6 +85,9 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     protected @Nullable MqttBrokerConnection connection;
 
+    // Subscribes to each state topic once for all channel states
+    protected final TopicDispatcher topicDispatcher = new TopicDispatcher();
+
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
 
@@ -179,6 +183,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
             logger.warn("Bridge handler not found!");
             return;
         }
+        topicDispatcher.setInboundProcessor(h.getInboundProcessor(), thing.getUID().getAsString());
 
         final MqttBrokerConnection connection;
         try {
@@ -257,6 +262,12 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
             logger.warn("unsubscription on disposal failed for {}: ", thing.getUID(), e);
         }
         connection = null;
+        final AbstractBrokerHandler h = getBridgeHandler();
+        final InboundMessageProcessor inboundProcessor = h != null ? h.getInboundProcessor() : null;
+        if (inboundProcessor != null) {
+            inboundProcessor.remove(thing.getUID().getAsString());
+        }
+        topicDispatcher.setInboundProcessor(null, "");
         super.dispose();
     }
 
@@ -323,6 +334,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
                         public void postChannelCommand(ChannelUID channelUID, Command value) {
                         }
                     });
+            state.setTopicDispatcher(topicDispatcher);
             MqttBrokerConnection connection = getConnection();
             if (connection != null) {
                 state.start(connection, scheduler, 0);
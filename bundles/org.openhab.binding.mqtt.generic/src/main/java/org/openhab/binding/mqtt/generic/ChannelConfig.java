@@ -37,6 +37,11 @@ public class ChannelConfig {
      * Instead a postCommand() call is performed.
      */
     public boolean postCommand = false;
+    /**
+     * If true, the channel state is only updated if a message changes it. Useful for topics which repeat the values
+     * of several channels in every message.
+     */
+    public boolean skipUnchanged = false;
     public @Nullable Integer qos;
     public boolean retained = false;
     /** If true, the state topic will not update a state, but trigger a channel instead. */
@@ -73,4 +73,9 @@ public class ChannelConfigBuilder {
         config.trigger = trigger;
         return this;
     }
+
+    public ChannelConfigBuilder withSkipUnchanged(boolean skipUnchanged) {
+        config.skipUnchanged = skipUnchanged;
+        return this;
+    }
 }
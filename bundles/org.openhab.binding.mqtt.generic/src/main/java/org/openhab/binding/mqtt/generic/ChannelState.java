@@ -31,6 +31,7 @@ import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +59,7 @@ public class ChannelState implements MqttMessageSubscriber {
     protected final List<ChannelStateTransformation> transformationsIn = new ArrayList<>();
     protected final List<ChannelStateTransformation> transformationsOut = new ArrayList<>();
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
+    private @Nullable TopicDispatcher topicDispatcher;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
@@ -140,6 +142,17 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        processMessage(topic, payload, null);
+    }
+
+    /**
+     * Incoming message from the {@link TopicDispatcher}
+     *
+     * @param topic The topic. Is the same as the field stateTopic.
+     * @param payload The byte payload. Must be UTF8 encoded text or binary data.
+     * @param decodedPayload The payload decoded as UTF8 text or null if it is not decoded yet.
+     */
+    void processMessage(String topic, byte[] payload, @Nullable String decodedPayload) {
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
@@ -154,7 +167,7 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = decodedPayload != null ? decodedPayload : new String(payload, StandardCharsets.UTF_8);
         for (ChannelStateTransformation t : transformationsIn) {
             String transformedValue = t.processValue(strValue);
             if (transformedValue != null) {
@@ -189,6 +202,7 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // Map the string to a command, update the cached value and post the command to the framework
+        final State previousState = cachedValue.getChannelState();
         try {
             cachedValue.update(command);
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -200,6 +214,8 @@ public class ChannelState implements MqttMessageSubscriber {
 
         if (config.postCommand) {
             channelStateUpdateListener.postChannelCommand(channelUID, (Command) cachedValue.getChannelState());
+        } else if (config.skipUnchanged && previousState.equals(cachedValue.getChannelState())) {
+            logger.trace("State of channel {} is unchanged, skipping update", channelUID);
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
         }
@@ -243,7 +259,11 @@ public class ChannelState implements MqttMessageSubscriber {
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
         if (connection != null && StringUtils.isNotBlank(config.stateTopic)) {
-            return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
+            final TopicDispatcher topicDispatcher = this.topicDispatcher;
+            final CompletableFuture<Boolean> unsubscribed = topicDispatcher != null
+                    ? topicDispatcher.unsubscribe(connection, config.stateTopic, this)
+                    : connection.unsubscribe(config.stateTopic, this);
+            return unsubscribed.thenRun(this::internalStop);
         } else {
             internalStop();
             return CompletableFuture.completedFuture(null);
@@ -303,7 +323,11 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        final TopicDispatcher topicDispatcher = this.topicDispatcher;
+        final CompletableFuture<Boolean> subscribed = topicDispatcher != null
+                ? topicDispatcher.subscribe(connection, config.stateTopic, this)
+                : connection.subscribe(config.stateTopic, this);
+        subscribed.thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -400,6 +424,16 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * Subscribe to the state topic via the given dispatcher instead of directly on the connection. Channel states
+     * sharing a state topic then process each message with the same decoded payload.
+     *
+     * @param topicDispatcher The topic dispatcher of the thing handler or null to subscribe directly
+     */
+    public void setTopicDispatcher(@Nullable TopicDispatcher topicDispatcher) {
+        this.topicDispatcher = topicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
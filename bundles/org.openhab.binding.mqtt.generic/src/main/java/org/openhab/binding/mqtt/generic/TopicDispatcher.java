@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.handler.InboundMessageProcessor;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes to each state topic once and dispatches received messages to all {@link ChannelState}s of the topic.
+ * The payload is decoded once for all channels, so the transformations of the channels get the same string.
+ * <p>
+ * If the broker handler has an {@link InboundMessageProcessor}, messages are processed on its threads in the order
+ * they were received, instead of the thread of the MQTT client.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TopicDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(TopicDispatcher.class);
+
+    private final Map<String, TopicSubscriber> subscribers = new HashMap<>();
+    private volatile @Nullable InboundMessageProcessor inboundProcessor;
+    private String inboundKey = "";
+
+    private class TopicSubscriber implements MqttMessageSubscriber {
+        private final MqttBrokerConnection connection;
+        private final List<ChannelState> channelStates = new CopyOnWriteArrayList<>();
+        private CompletableFuture<Boolean> subscription = CompletableFuture.completedFuture(false);
+
+        private TopicSubscriber(MqttBrokerConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void processMessage(String topic, byte[] payload) {
+            final InboundMessageProcessor inboundProcessor = TopicDispatcher.this.inboundProcessor;
+            if (inboundProcessor != null) {
+                inboundProcessor.submit(inboundKey, topic, () -> dispatch(topic, payload));
+            } else {
+                dispatch(topic, payload);
+            }
+        }
+
+        private void dispatch(String topic, byte[] payload) {
+            String decodedPayload = null;
+            for (ChannelState channelState : channelStates) {
+                if (decodedPayload == null && !channelState.getCache().isBinary()) {
+                    decodedPayload = new String(payload, StandardCharsets.UTF_8);
+                }
+                try {
+                    channelState.processMessage(topic, payload, decodedPayload);
+                } catch (RuntimeException e) {
+                    logger.warn("Processing MQTT message on topic {} failed for channel {}", topic,
+                            channelState.channelUID(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Process received messages with the given processor.
+     *
+     * @param inboundProcessor The processor of the broker handler or null to process messages on the thread of the
+     *            MQTT client
+     * @param key Messages with the same key are processed in order, usually the thing UID
+     */
+    public void setInboundProcessor(@Nullable InboundMessageProcessor inboundProcessor, String key) {
+        this.inboundKey = key;
+        this.inboundProcessor = inboundProcessor;
+    }
+
+    /**
+     * Subscribes a channel state to its state topic. The topic is only subscribed on the connection for the first
+     * channel state.
+     *
+     * @param connection A broker connection
+     * @param topic The state topic
+     * @param channelState The channel state
+     * @return A future that completes when the topic is subscribed
+     */
+    public synchronized CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        TopicSubscriber subscriber = subscribers.get(topic);
+        if (subscriber == null || !subscriber.connection.equals(connection)
+                || subscriber.subscription.isCompletedExceptionally()) {
+            if (subscriber != null) {
+                // failed subscription or outdated connection, the channel states subscribe again
+                subscriber.channelStates.clear();
+                if (!subscriber.subscription.isCompletedExceptionally()) {
+                    subscriber.connection.unsubscribe(topic, subscriber);
+                }
+            }
+            subscriber = new TopicSubscriber(connection);
+            subscriber.channelStates.add(channelState);
+            subscribers.put(topic, subscriber);
+            subscriber.subscription = connection.subscribe(topic, subscriber);
+        } else if (!subscriber.channelStates.contains(channelState)) {
+            subscriber.channelStates.add(channelState);
+        }
+        return subscriber.subscription;
+    }
+
+    /**
+     * Unsubscribes a channel state from its state topic. The topic is only unsubscribed on the connection for the
+     * last channel state.
+     *
+     * @param connection A broker connection
+     * @param topic The state topic
+     * @param channelState The channel state
+     * @return A future that completes when the channel state is unsubscribed
+     */
+    public synchronized CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        final @Nullable TopicSubscriber subscriber = subscribers.get(topic);
+        if (subscriber == null || !subscriber.connection.equals(connection)
+                || !subscriber.channelStates.remove(channelState)) {
+            // the channel state subscribed itself
+            return connection.unsubscribe(topic, channelState);
+        }
+        if (!subscriber.channelStates.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        subscribers.remove(topic);
+        return connection.unsubscribe(topic, subscriber);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.generic.values.NumberValue;
+import org.openhab.binding.mqtt.generic.values.TextValue;
+import org.openhab.binding.mqtt.generic.values.Value;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
+
+/**
+ * Tests the {@link TopicDispatcher} class.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class TopicDispatcherTests {
+
+    private @Mock MqttBrokerConnection connection;
+    private @Mock ChannelStateUpdateListener channelStateUpdateListener;
+
+    private final ChannelUID textChannelUID = new ChannelUID("mqtt:topic:broker:thing:text");
+    private final ChannelUID numberChannelUID = new ChannelUID("mqtt:topic:broker:thing:number");
+    private final TopicDispatcher topicDispatcher = new TopicDispatcher();
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).unsubscribe(any(), any());
+
+        scheduler = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private ChannelState createChannelState(ChannelUID channelUID, Value value) {
+        return createChannelState(channelUID, value, false);
+    }
+
+    private ChannelState createChannelState(ChannelUID channelUID, Value value, boolean skipUnchanged) {
+        ChannelState channelState = new ChannelState(
+                ChannelConfigBuilder.create("state", "command").withSkipUnchanged(skipUnchanged).build(), channelUID,
+                value, channelStateUpdateListener);
+        channelState.setTopicDispatcher(topicDispatcher);
+        return channelState;
+    }
+
+    @Test
+    public void sharedTopicIsSubscribedOnce() throws Exception {
+        ChannelState text = createChannelState(textChannelUID, new TextValue());
+        ChannelState number = createChannelState(numberChannelUID, new NumberValue(null, null, null, null));
+
+        text.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        number.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        verify(connection, times(1)).subscribe(eq("state"), any());
+
+        text.stop().get();
+        verify(connection, never()).unsubscribe(any(), any());
+        number.stop().get();
+        verify(connection, times(1)).unsubscribe(eq("state"), any());
+    }
+
+    @Test
+    public void messageIsDispatchedToAllChannelStates() throws Exception {
+        ChannelState text = createChannelState(textChannelUID, new TextValue());
+        ChannelState number = createChannelState(numberChannelUID, new NumberValue(null, null, null, null));
+        text.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        number.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq("state"), subscriber.capture());
+        subscriber.getValue().processMessage("state", "12".getBytes());
+
+        verify(channelStateUpdateListener).updateChannelState(eq(textChannelUID), eq(new StringType("12")));
+        verify(channelStateUpdateListener).updateChannelState(eq(numberChannelUID), any());
+    }
+
+    @Test
+    public void unchangedStateOfSharedTopicIsUpdatedByDefault() throws Exception {
+        ChannelState text = createChannelState(textChannelUID, new TextValue());
+        ChannelState number = createChannelState(numberChannelUID, new NumberValue(null, null, null, null));
+        text.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        number.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq("state"), subscriber.capture());
+        subscriber.getValue().processMessage("state", "12".getBytes());
+        subscriber.getValue().processMessage("state", "12".getBytes());
+
+        verify(channelStateUpdateListener, times(2)).updateChannelState(eq(textChannelUID), any());
+        verify(channelStateUpdateListener, times(2)).updateChannelState(eq(numberChannelUID), any());
+    }
+
+    @Test
+    public void unchangedStateIsSkippedIfConfigured() throws Exception {
+        ChannelState text = createChannelState(textChannelUID, new TextValue(), true);
+        ChannelState number = createChannelState(numberChannelUID, new NumberValue(null, null, null, null));
+        text.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        number.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq("state"), subscriber.capture());
+        subscriber.getValue().processMessage("state", "12".getBytes());
+        subscriber.getValue().processMessage("state", "12".getBytes());
+        subscriber.getValue().processMessage("state", "13".getBytes());
+
+        verify(channelStateUpdateListener, times(2)).updateChannelState(eq(textChannelUID), any());
+        verify(channelStateUpdateListener, times(3)).updateChannelState(eq(numberChannelUID), any());
+    }
+
+    @Test
+    public void subscriberOfOutdatedConnectionIsUnsubscribed() throws Exception {
+        ChannelState text = createChannelState(textChannelUID, new TextValue());
+        text.start(connection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq("state"), subscriber.capture());
+
+        MqttBrokerConnection newConnection = mock(MqttBrokerConnection.class);
+        doReturn(CompletableFuture.completedFuture(true)).when(newConnection).subscribe(any(), any());
+        text.start(newConnection, scheduler, 0).get(100, TimeUnit.MILLISECONDS);
+
+        verify(connection).unsubscribe(eq("state"), eq(subscriber.getValue()));
+        verify(newConnection).subscribe(eq("state"), any());
+    }
+}
@@ -13,9 +13,12 @@
 package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
+import java.security.MessageDigest;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -58,6 +61,8 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @NonNullByDefault({}) ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // digest of the last processed config per topic, unchanged (retained) configs are not parsed again
+    private final Map<String, byte[]> configPerTopic = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -90,6 +95,12 @@ public class DiscoverComponents implements MqttMessageSubscriber {
             return;
         }
 
+        byte[] digest = ConfigDigest.of(payload);
+        if (MessageDigest.isEqual(digest, configPerTopic.put(topic, digest))) {
+            logger.trace("Configuration of HomeAssistant component on topic {} unchanged", topic);
+            return;
+        }
+
         HaID haID = new HaID(topic);
         String config = new String(payload);
 
@@ -135,6 +146,8 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoverTime = discoverTime;
         this.discoveredListener = componentsDiscoveredListener;
         this.connectionRef = new WeakReference<>(connection);
+        // The components may have been dropped since the last discovery, process all configs again
+        this.configPerTopic.clear();
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
         this.topics.parallelStream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
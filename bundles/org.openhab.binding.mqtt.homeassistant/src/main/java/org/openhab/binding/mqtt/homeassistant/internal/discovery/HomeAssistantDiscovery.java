@@ -13,8 +13,7 @@
 package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +23,7 @@ import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -35,6 +35,7 @@ import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.binding.mqtt.homeassistant.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.homeassistant.internal.BaseChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.ChannelConfigurationTypeAdapterFactory;
+import org.openhab.binding.mqtt.homeassistant.internal.ConfigDigest;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
 import org.openhab.core.config.discovery.DiscoveryResult;
@@ -55,21 +56,37 @@ import com.google.gson.GsonBuilder;
 /**
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
+ * <p>
+ * Config payloads are only parsed if they changed since they were last processed, so retained configs delivered again
+ * (e.g. after a reconnect) are skipped. The result of a thing is published shortly after one of its components was
+ * found and updated when further components arrive, instead of waiting for all retained configs.
  *
  * @author David Graeff - Initial contribution
  */
 @Component(service = DiscoveryService.class, configurationPid = "discovery.mqttha")
 @NonNullByDefault
 public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
-    @SuppressWarnings("unused")
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantDiscovery.class);
     protected final Map<String, Set<HaID>> componentsPerThingID = new TreeMap<>();
     protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
     protected final Map<String, DiscoveryResult> results = new ConcurrentHashMap<>();
+    // digest of the last processed config per broker and topic
+    protected final Map<String, byte[]> configPerTopic = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> publishFuturePerThing = new ConcurrentHashMap<>();
+
+    // time in milliseconds to collect further components of a thing before its result is published
+    private static final int PUBLISH_DELAY = 1000;
+    // time in milliseconds without new configs after which a discovery run is finished
+    private static final int DISCOVERY_QUIET_TIME = 2000;
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
+    private volatile long discoveryStartTime = 0;
+    private volatile long lastConfigTime = 0;
+    private final AtomicLong processedConfigCount = new AtomicLong();
+    private final AtomicLong skippedConfigCount = new AtomicLong();
+
     public static final Map<String, String> HA_COMP_TO_NAME = new TreeMap<>();
     {
         HA_COMP_TO_NAME.put("alarm_control_panel", "Alarm Control Panel");
@@ -126,6 +143,31 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         return typeProvider.getThingTypeUIDs();
     }
 
+    @Override
+    protected void startScan() {
+        if (!isBackgroundDiscoveryEnabled()) {
+            resetDiscovery();
+        }
+        super.startScan();
+    }
+
+    @Override
+    protected void startBackgroundDiscovery() {
+        resetDiscovery();
+        super.startBackgroundDiscovery();
+    }
+
+    /**
+     * All retained configs are received again after subscribing, process them like new ones.
+     */
+    private void resetDiscovery() {
+        configPerTopic.clear();
+        componentsPerThingID.clear();
+        processedConfigCount.set(0);
+        skippedConfigCount.set(0);
+        discoveryStartTime = System.currentTimeMillis();
+    }
+
     @Override
     public void receivedMessage(ThingUID connectionBridge, MqttBrokerConnection connection, String topic,
             byte[] payload) {
@@ -139,13 +181,21 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
-        // Reset the found-component timer.
-        // We will collect components for the thing label description for another 2 seconds.
+        // Reset the discovery-finished timer.
+        lastConfigTime = System.currentTimeMillis();
         final ScheduledFuture<?> future = this.future;
         if (future != null) {
             future.cancel(false);
         }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
+        this.future = scheduler.schedule(this::discoveryFinished, DISCOVERY_QUIET_TIME, TimeUnit.MILLISECONDS);
+
+        final String topicKey = connectionBridge.getAsString() + "/" + topic;
+        final byte[] digest = ConfigDigest.of(payload);
+        if (MessageDigest.isEqual(digest, configPerTopic.put(topicKey, digest))) {
+            skippedConfigCount.incrementAndGet();
+            return;
+        }
+        processedConfigCount.incrementAndGet();
 
         BaseChannelConfiguration config = BaseChannelConfiguration
                 .fromString(new String(payload, StandardCharsets.UTF_8), gson);
@@ -180,24 +230,37 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         properties.put("deviceId", thingID);
 
         // Because we need the new properties map with the updated "components" list
-        results.put(thingUID.getAsString(),
+        final String resultKey = thingUID.getAsString();
+        results.put(resultKey,
                 DiscoveryResultBuilder.create(thingUID).withProperties(properties)
                         .withRepresentationProperty("deviceId").withBridge(connectionBridge)
                         .withLabel(config.getThingName() + " (" + componentNames + ")").build());
+
+        // Publish the result after collecting components for the thing label description for a moment.
+        // Components arriving later update the published result.
+        publishFuturePerThing.computeIfAbsent(resultKey,
+                key -> scheduler.schedule(() -> publishResult(key), PUBLISH_DELAY, TimeUnit.MILLISECONDS));
     }
 
-    protected void publishResults() {
-        Collection<DiscoveryResult> localResults;
+    protected void publishResult(String resultKey) {
+        publishFuturePerThing.remove(resultKey);
+        final DiscoveryResult result = results.remove(resultKey);
+        if (result == null) {
+            return;
+        }
+        final ThingTypeUID typeID = result.getThingTypeUID();
+        ThingType type = typeProvider.derive(typeID, MqttBindingConstants.HOMEASSISTANT_MQTT_THING).build();
+        typeProvider.setThingTypeIfAbsent(typeID, type);
 
-        localResults = new ArrayList<>(results.values());
-        results.clear();
-        componentsPerThingID.clear();
-        for (DiscoveryResult result : localResults) {
-            final ThingTypeUID typeID = result.getThingTypeUID();
-            ThingType type = typeProvider.derive(typeID, MqttBindingConstants.HOMEASSISTANT_MQTT_THING).build();
-            typeProvider.setThingTypeIfAbsent(typeID, type);
+        thingDiscovered(result);
+    }
 
-            thingDiscovered(result);
+    private void discoveryFinished() {
+        final long startTime = discoveryStartTime;
+        if (startTime > 0) {
+            discoveryStartTime = 0;
+            logger.debug("Home Assistant discovery took {} ms, {} configurations processed, {} unchanged skipped",
+                    lastConfigTime - startTime, processedConfigCount.get(), skippedConfigCount.get());
         }
     }
 
@@ -206,6 +269,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        configPerTopic.remove(connectionBridge.getAsString() + "/" + topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             final String thingID = thingUID.getId();
@@ -215,6 +279,8 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             Set<HaID> components = componentsPerThingID.getOrDefault(thingID, Collections.emptySet());
             components.remove(haID);
             if (components.isEmpty()) {
+                componentsPerThingID.remove(thingID);
+                results.remove(thingUID.getAsString());
                 thingRemoved(thingUID);
             }
         }
@@ -195,7 +195,10 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         // Start all known components and channels within the components and put the Thing offline
         // if any subscribing failed ( == broker connection lost)
         CompletableFuture<@Nullable Void> future = haComponents.values().parallelStream()
-                .map(e -> e.start(connection, scheduler, attributeReceiveTimeout))
+                .map(e -> {
+                    setTopicDispatcher(e);
+                    return e.start(connection, scheduler, attributeReceiveTimeout);
+                })
                 .reduce(CompletableFuture.completedFuture(null), (a, v) -> a.thenCompose(b -> v)) // reduce to one
                 .exceptionally(e -> {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
@@ -206,6 +209,13 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 .thenCompose(b -> discoverComponents.startDiscovery(connection, 0, discoveryHomeAssistantIDs, this));
     }
 
+    /**
+     * Let channels of components which share a state topic receive each message once.
+     */
+    private void setTopicDispatcher(AbstractComponent<?> component) {
+        component.channelTypes().values().forEach(c -> c.getState().setTopicDispatcher(topicDispatcher));
+    }
+
     @Override
     protected void stop() {
         if (started) {
@@ -282,6 +292,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 // Add component to the component map
                 haComponents.put(discovered.uid().getId(), discovered);
                 // Start component / Subscribe to channel topics
+                setTopicDispatcher(discovered);
                 discovered.start(connection, scheduler, 0).exceptionally(e -> {
                     logger.warn("Failed to start component {}", discovered.uid(), e);
                     return null;
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal.discovery;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
+import org.openhab.binding.mqtt.homeassistant.generic.internal.MqttBindingConstants;
+import org.openhab.core.config.discovery.DiscoveryListener;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.ThingTypeBuilder;
+import org.openhab.core.thing.type.ThingTypeRegistry;
+
+/**
+ * Tests the {@link HomeAssistantDiscovery} class.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class HomeAssistantDiscoveryTests {
+    private static final ThingUID BRIDGE_UID = new ThingUID("mqtt:broker:local");
+    private static final String SWITCH_TOPIC = "homeassistant/switch/device/power/config";
+    private static final String SENSOR_TOPIC = "homeassistant/sensor/device/temperature/config";
+    private static final long TIMEOUT = 3000;
+
+    private @Mock MqttBrokerConnection connection;
+    private @Mock DiscoveryListener discoveryListener;
+    private @Mock ThingTypeRegistry thingTypeRegistry;
+
+    private final HomeAssistantDiscovery discovery = new HomeAssistantDiscovery();
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(ThingTypeBuilder.instance(MqttBindingConstants.HOMEASSISTANT_MQTT_THING, "HomeAssistant").build())
+                .when(thingTypeRegistry).getThingType(MqttBindingConstants.HOMEASSISTANT_MQTT_THING);
+        discovery.setTypeProvider(new MqttChannelTypeProvider(thingTypeRegistry));
+        discovery.addDiscoveryListener(discoveryListener);
+    }
+
+    private static byte[] config(String name) {
+        return ("{\"name\":\"" + name + "\",\"state_topic\":\"zigbee2mqtt/device\","
+                + "\"device\":{\"identifiers\":[\"device\"],\"name\":\"Device\"}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void publishPendingResults() {
+        new ArrayList<>(discovery.results.keySet()).forEach(discovery::publishResult);
+    }
+
+    @Test
+    public void unchangedConfigIsSkipped() {
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Power"));
+        assertThat(discovery.results.size(), is(1));
+        publishPendingResults();
+        verify(discoveryListener).thingDiscovered(eq(discovery), any());
+
+        // a retained config delivered again is not processed
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Power"));
+        assertThat(discovery.results.size(), is(0));
+
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Light"));
+        assertThat(discovery.results.size(), is(1));
+    }
+
+    @Test
+    public void resultIsPublishedAndUpdatedPerThing() {
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Power"));
+        verify(discoveryListener, timeout(TIMEOUT)).thingDiscovered(eq(discovery),
+                argThat(result -> result.getLabel().equals("Device (Switch)")));
+
+        discovery.receivedMessage(BRIDGE_UID, connection, SENSOR_TOPIC, config("Temperature"));
+        verify(discoveryListener, timeout(TIMEOUT)).thingDiscovered(eq(discovery),
+                argThat(result -> result.getLabel().contains("Switch") && result.getLabel().contains("Sensor")));
+    }
+
+    @Test
+    public void thingIsRemovedWhenLastConfigVanished() {
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Power"));
+        discovery.receivedMessage(BRIDGE_UID, connection, SENSOR_TOPIC, config("Temperature"));
+        publishPendingResults();
+
+        discovery.topicVanished(BRIDGE_UID, connection, SWITCH_TOPIC);
+        verify(discoveryListener, never()).thingRemoved(any(), any());
+
+        discovery.topicVanished(BRIDGE_UID, connection, SENSOR_TOPIC);
+        verify(discoveryListener).thingRemoved(eq(discovery), argThat(uid -> uid.getId().equals("device")));
+
+        // the config of a vanished topic is processed again when it reappears
+        discovery.receivedMessage(BRIDGE_UID, connection, SWITCH_TOPIC, config("Power"));
+        assertThat(discovery.results.size(), is(1));
+    }
+}
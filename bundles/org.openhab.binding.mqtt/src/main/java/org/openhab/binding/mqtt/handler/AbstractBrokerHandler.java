@@ -52,6 +52,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
+    protected @Nullable InboundMessageProcessor inboundProcessor;
 
     public AbstractBrokerHandler(Bridge thing) {
         super(thing);
@@ -77,6 +78,14 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         return connection;
     }
 
+    /**
+     * Returns the processor for received messages of the connection or null if messages are processed on the thread
+     * of the MQTT client.
+     */
+    public @Nullable InboundMessageProcessor getInboundProcessor() {
+        return inboundProcessor;
+    }
+
     /**
      * Does nothing in the base implementation.
      */
@@ -183,6 +192,12 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         }
         this.connection = null;
         connectionFuture = new CompletableFuture<>();
+
+        final InboundMessageProcessor inboundProcessor = this.inboundProcessor;
+        if (inboundProcessor != null) {
+            inboundProcessor.stop();
+            this.inboundProcessor = null;
+        }
         super.dispose();
     }
 
@@ -232,6 +232,10 @@ public class BrokerHandler extends AbstractBrokerHandler implements PinnedCallba
         final MqttBrokerConnection connection = createBrokerConnection();
         assignSSLContextProvider(config, connection, this);
         this.connection = connection;
+        if (config.inboundThreads > 0) {
+            inboundProcessor = new InboundMessageProcessor("mqtt-inbound-" + thing.getUID().getId(),
+                    config.inboundThreads, config.inboundQueueSize);
+        }
 
         super.initialize();
     }
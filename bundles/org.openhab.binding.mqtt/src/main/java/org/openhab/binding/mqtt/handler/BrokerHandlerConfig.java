@@ -36,4 +36,8 @@ public class BrokerHandlerConfig extends MqttBrokerConnectionConfig {
     public String publickey = "";
 
     public boolean enableDiscovery = true;
+
+    // Process received messages on separate threads, 0 processes them on the thread of the MQTT client
+    public int inboundThreads = 0;
+    public int inboundQueueSize = 1000;
 }
@@ -0,0 +1,273 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes received MQTT messages on a thread pool, so slow message processing (e.g. transformations) does not block
+ * the thread of the MQTT client which delivers the messages of the whole broker connection.
+ * <p>
+ * Messages with the same key, usually the UID of a thing, are processed one after another in the order they were
+ * received. If the queue is full, the oldest waiting message of the same key and topic is dropped, as it is outdated
+ * by the new one. If there is none, the oldest waiting message of the key is dropped. If the key has no waiting
+ * messages, the oldest message of the key with the most waiting messages is dropped, so a busy thing cannot starve the
+ * others.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InboundMessageProcessor {
+    // messages processed at once for a key, before other keys get a thread
+    private static final int MAX_BATCH = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(InboundMessageProcessor.class);
+
+    private static class Message {
+        private final String topic;
+        private final Runnable task;
+        private final long receivedAt = System.nanoTime();
+
+        private Message(String topic, Runnable task) {
+            this.topic = topic;
+            this.task = task;
+        }
+    }
+
+    private static class KeyQueue {
+        private final ArrayDeque<Message> messages = new ArrayDeque<>();
+        private boolean scheduled = false;
+        private boolean removed = false;
+    }
+
+    private final String name;
+    private final int queueSize;
+    private final ExecutorService executor;
+    private final Map<String, KeyQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * @param name name of the processing threads
+     * @param threads number of processing threads
+     * @param queueSize maximum number of waiting messages
+     */
+    public InboundMessageProcessor(String name, int threads, int queueSize) {
+        this.name = name;
+        this.queueSize = Math.max(queueSize, 1);
+        this.executor = Executors.newFixedThreadPool(Math.max(threads, 1), new NamedThreadFactory(name));
+    }
+
+    /**
+     * Queues a message for processing.
+     *
+     * @param key messages with the same key are processed in order
+     * @param topic the topic of the message
+     * @param task processes the message
+     */
+    public void submit(String key, String topic, Runnable task) {
+        final KeyQueue queue = queues.computeIfAbsent(key, k -> new KeyQueue());
+        boolean full;
+        synchronized (queue) {
+            full = queuedCount.get() >= queueSize && !dropOldest(queue, topic);
+        }
+        // evict outside of the lock of the own queue, only one queue is locked at a time
+        if (full && !dropFromLongestQueue()) {
+            droppedCount.incrementAndGet();
+            logger.debug("{}: queue is full, dropping message on topic {}", name, topic);
+            return;
+        }
+        final boolean schedule;
+        synchronized (queue) {
+            if (queue.removed) {
+                return;
+            }
+            queue.messages.add(new Message(topic, task));
+            queuedCount.incrementAndGet();
+            schedule = !queue.scheduled;
+            queue.scheduled = true;
+        }
+        if (schedule) {
+            execute(queue);
+        }
+    }
+
+    private boolean dropOldest(KeyQueue queue, String topic) {
+        Iterator<Message> iterator = queue.messages.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().topic.equals(topic)) {
+                iterator.remove();
+                dropped();
+                return true;
+            }
+        }
+        if (queue.messages.pollFirst() != null) {
+            dropped();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean dropFromLongestQueue() {
+        KeyQueue longest = null;
+        int longestSize = 0;
+        for (KeyQueue queue : queues.values()) {
+            synchronized (queue) {
+                if (queue.messages.size() > longestSize) {
+                    longest = queue;
+                    longestSize = queue.messages.size();
+                }
+            }
+        }
+        if (longest == null) {
+            return false;
+        }
+        synchronized (longest) {
+            if (longest.messages.pollFirst() == null) {
+                return false;
+            }
+            dropped();
+            return true;
+        }
+    }
+
+    private void dropped() {
+        queuedCount.decrementAndGet();
+        droppedCount.incrementAndGet();
+        logger.debug("{}: queue is full, dropping oldest message. Consider more processing threads.", name);
+    }
+
+    private void execute(KeyQueue queue) {
+        try {
+            executor.execute(() -> process(queue));
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                queuedCount.addAndGet(-queue.messages.size());
+                queue.messages.clear();
+                queue.scheduled = false;
+            }
+        }
+    }
+
+    private void process(KeyQueue queue) {
+        for (int i = 0; i < MAX_BATCH; i++) {
+            final Message message;
+            synchronized (queue) {
+                message = queue.messages.pollFirst();
+                if (message == null) {
+                    queue.scheduled = false;
+                    return;
+                }
+                queuedCount.decrementAndGet();
+            }
+            try {
+                message.task.run();
+            } catch (RuntimeException e) {
+                logger.warn("{}: processing message on topic {} failed", name, message.topic, e);
+            }
+            recordLatency(System.nanoTime() - message.receivedAt);
+        }
+        // give other keys a chance, the queue stays scheduled
+        execute(queue);
+    }
+
+    private void recordLatency(long nanos) {
+        processedCount.incrementAndGet();
+        totalLatency.addAndGet(nanos);
+        maxLatency.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Stops processing. Waiting messages are discarded.
+     */
+    public void stop() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queues.clear();
+        logger.debug("{}: processed {} messages, dropped {}, average latency {} µs, maximum latency {} µs", name,
+                getProcessedCount(), getDroppedCount(), getAverageLatency(), getMaxLatency());
+    }
+
+    /**
+     * Removes the queue of a key, e.g. when the thing is disposed. Waiting messages are discarded, a message which is
+     * processed right now is completed.
+     */
+    public void remove(String key) {
+        final KeyQueue queue = queues.remove(key);
+        if (queue != null) {
+            synchronized (queue) {
+                queue.removed = true;
+                queuedCount.addAndGet(-queue.messages.size());
+                queue.messages.clear();
+            }
+        }
+    }
+
+    /**
+     * @return number of messages waiting for processing
+     */
+    public int getQueueSize() {
+        return queuedCount.get();
+    }
+
+    /**
+     * @return number of processed messages
+     */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * @return number of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return average time in microseconds from receiving to processing a message
+     */
+    public long getAverageLatency() {
+        long count = processedCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatency.get() / count);
+    }
+
+    /**
+     * @return maximum time in microseconds from receiving to processing a message
+     */
+    public long getMaxLatency() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatency.get());
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link InboundMessageProcessor}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class InboundMessageProcessorTest {
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private InboundMessageProcessor processor = new InboundMessageProcessor("test", 2, 10);
+
+    @AfterEach
+    public void tearDown() {
+        processor.stop();
+    }
+
+    private void await(String key) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        processor.submit(key, "done", latch::countDown);
+        assertThat(latch.await(1, TimeUnit.SECONDS), is(true));
+    }
+
+    // the processed count is increased after a message is processed, so it may lag behind the message itself
+    private void awaitProcessedCount(long count) throws InterruptedException {
+        for (int i = 0; i < 100 && processor.getProcessedCount() < count; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(processor.getProcessedCount(), is(count));
+    }
+
+    private CountDownLatch blockThread() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        processor.submit("other", "block", () -> {
+            started.countDown();
+            try {
+                blocked.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+        return blocked;
+    }
+
+    @Test
+    public void messagesOfAKeyAreProcessedInOrder() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            String value = "a" + i;
+            processor.submit("thing", "topic", () -> processed.add(value));
+        }
+        await("thing");
+        awaitProcessedCount(6);
+
+        assertThat(processed, is(List.of("a0", "a1", "a2", "a3", "a4")));
+        assertThat(processor.getQueueSize(), is(0));
+    }
+
+    @Test
+    public void oldestMessageOfTopicIsDroppedIfQueueIsFull() throws InterruptedException {
+        processor.stop();
+        processor = new InboundMessageProcessor("test", 1, 3);
+
+        CountDownLatch blocked = blockThread();
+
+        // the only thread is blocked, so these messages wait in the queue
+        processor.submit("thing", "temperature", () -> processed.add("t1"));
+        processor.submit("thing", "humidity", () -> processed.add("h1"));
+        processor.submit("thing", "temperature", () -> processed.add("t2"));
+        processor.submit("thing", "temperature", () -> processed.add("t3"));
+        assertThat(processor.getDroppedCount(), is(1L));
+
+        blocked.countDown();
+        awaitProcessedCount(4);
+
+        assertThat(processed, is(List.of("h1", "t2", "t3")));
+    }
+
+    @Test
+    public void messageOfLongestQueueIsDroppedIfKeyHasNoWaitingMessage() throws InterruptedException {
+        processor.stop();
+        processor = new InboundMessageProcessor("test", 1, 3);
+        CountDownLatch blocked = blockThread();
+
+        processor.submit("busy", "temperature", () -> processed.add("t1"));
+        processor.submit("busy", "humidity", () -> processed.add("h1"));
+        processor.submit("busy", "pressure", () -> processed.add("p1"));
+        processor.submit("quiet", "temperature", () -> processed.add("q1"));
+        assertThat(processor.getDroppedCount(), is(1L));
+        assertThat(processor.getQueueSize(), is(3));
+
+        blocked.countDown();
+        awaitProcessedCount(4);
+
+        assertThat(processed, is(List.of("h1", "p1", "q1")));
+    }
+
+    @Test
+    public void waitingMessagesOfRemovedKeyAreDiscarded() throws InterruptedException {
+        processor.stop();
+        processor = new InboundMessageProcessor("test", 1, 10);
+        CountDownLatch blocked = blockThread();
+
+        processor.submit("thing", "temperature", () -> processed.add("t1"));
+        processor.submit("thing", "humidity", () -> processed.add("h1"));
+        processor.remove("thing");
+        assertThat(processor.getQueueSize(), is(0));
+
+        blocked.countDown();
+        await("other");
+
+        assertThat(processed, is(List.of()));
+    }
+}
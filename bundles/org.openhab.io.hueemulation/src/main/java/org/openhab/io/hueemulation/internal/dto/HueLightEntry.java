@@ -13,16 +13,20 @@
 package org.openhab.io.hueemulation.internal.dto;
 
 import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
@@ -57,6 +61,35 @@ public class HueLightEntry {
     public transient @Nullable Command lastCommand = null;
     public transient @Nullable HueStateChange lastHueChange = null;
 
+    /**
+     * The serialized form of this device together with everything it was computed from.
+     */
+    private static class Snapshot {
+        private final GenericItem item;
+        private final State itemState;
+        private final @Nullable String label;
+        private final @Nullable Command lastCommand;
+        private final @Nullable HueStateChange lastHueChange;
+        private final JsonElement tree;
+        private @Nullable String json;
+
+        private Snapshot(HueLightEntry entry, State itemState, @Nullable String label, JsonElement tree) {
+            this.item = entry.item;
+            this.itemState = itemState;
+            this.label = label;
+            this.lastCommand = entry.lastCommand;
+            this.lastHueChange = entry.lastHueChange;
+            this.tree = tree;
+        }
+
+        private boolean isValidFor(HueLightEntry entry, State itemState, @Nullable String label) {
+            return item == entry.item && itemState.equals(this.itemState) && Objects.equals(label, this.label)
+                    && lastCommand == entry.lastCommand && lastHueChange == entry.lastHueChange;
+        }
+    }
+
+    private transient @Nullable Snapshot snapshot;
+
     public static class Config {
         public final String archetype = "classicbulb";
         public final String function = "functional";
@@ -158,8 +191,41 @@ public class HueLightEntry {
         state = StateUtils.colorStateFromItemState(item.getState(), deviceType);
     }
 
+    /**
+     * Returns the serialized form of this device. It is only computed again, if the item state or label or the last
+     * command changed, so polling clients get the cached form.
+     *
+     * @param gson The gson instance to serialize with
+     * @return The serialized device
+     */
+    public synchronized String toJson(Gson gson) {
+        Snapshot snapshot = snapshot(entry -> gson.toJsonTree(entry, Serializer.HueDeviceHelper.class));
+        String json = snapshot.json;
+        if (json == null) {
+            json = gson.toJson(snapshot.tree);
+            snapshot.json = json;
+        }
+        return json;
+    }
+
+    private synchronized Snapshot snapshot(Function<HueLightEntry, JsonElement> serializer) {
+        State itemState = item.getState();
+        String label = item.getLabel();
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null || !snapshot.isValidFor(this, itemState, label)) {
+            state = StateUtils.adjustedColorStateFromItemState(itemState, deviceType, lastCommand, lastHueChange);
+            if (label != null) {
+                name = label;
+            }
+            snapshot = new Snapshot(this, itemState, label, serializer.apply(this));
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
     /**
      * This custom serializer updates the light state and label, before serializing.
+     * The result is reused as long as they did not change.
      */
     @NonNullByDefault({})
     public static class Serializer implements JsonSerializer<HueLightEntry> {
@@ -169,15 +235,7 @@ public class HueLightEntry {
 
         @Override
         public JsonElement serialize(HueLightEntry product, Type type, JsonSerializationContext context) {
-            product.state = StateUtils.adjustedColorStateFromItemState(product.item.getState(), product.deviceType,
-                    product.lastCommand, product.lastHueChange);
-            String label = product.item.getLabel();
-            if (label != null) {
-                product.name = label;
-            }
-
-            JsonElement jsonSubscription = context.serialize(product, HueDeviceHelper.class);
-            return jsonSubscription;
+            return product.snapshot(entry -> context.serialize(entry, HueDeviceHelper.class)).tree;
         }
     }
 
@@ -190,6 +248,7 @@ public class HueLightEntry {
     public void updateItem(GenericItem element) {
         item = element;
         state = StateUtils.colorStateFromItemState(item.getState(), deviceType);
+        snapshot = null;
 
         lastCommand = null;
         lastHueChange = null;
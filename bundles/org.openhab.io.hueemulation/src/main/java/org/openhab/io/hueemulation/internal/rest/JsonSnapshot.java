@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal.rest;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+
+/**
+ * The last served JSON document of a REST resource and its entity tag.
+ * <p>
+ * Documents of a collection, like all lights, are assembled from the serialized entries. As long as no entry changed,
+ * the document is served again without assembling it and keeps its entity tag, so clients polling with
+ * If-None-Match get a "304 Not Modified" response.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JsonSnapshot {
+    // differs between runs, so entity tags of a previous run never match
+    private static final String ETAG_PREFIX = Long.toHexString(System.currentTimeMillis()) + "-";
+    private static long lastVersion = 0;
+
+    private Map<String, String> entries = Collections.emptyMap();
+    private @Nullable String document;
+    private EntityTag eTag = new EntityTag("");
+
+    /**
+     * Serves a JSON object of the given serialized entries.
+     *
+     * @param request The request, to evaluate the If-None-Match header
+     * @param entries The serialized entries by their id, in the order of the document
+     * @param gson A gson instance to quote the ids
+     * @return The response with the document or "304 Not Modified"
+     */
+    public synchronized Response response(Request request, Map<String, String> entries, Gson gson) {
+        String document = this.document;
+        if (document == null || !entries.equals(this.entries)) {
+            StringBuilder builder = new StringBuilder("{");
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+                builder.append(gson.toJson(entry.getKey())).append(':').append(entry.getValue());
+            }
+            document = builder.append('}').toString();
+            update(entries, document);
+        }
+        return response(request, document);
+    }
+
+    /**
+     * Serves the given document. The entity tag changes, if the document differs from the last one.
+     *
+     * @param request The request, to evaluate the If-None-Match header
+     * @param document The JSON document
+     * @return The response with the document or "304 Not Modified"
+     */
+    public synchronized Response response(Request request, String document) {
+        if (!document.equals(this.document)) {
+            update(Collections.emptyMap(), document);
+        }
+        ResponseBuilder builder = request.evaluatePreconditions(eTag);
+        if (builder == null) {
+            builder = Response.ok(document);
+        }
+        return builder.tag(eTag).build();
+    }
+
+    private void update(Map<String, String> entries, String document) {
+        this.entries = entries;
+        this.document = document;
+        this.eTag = new EntityTag(ETAG_PREFIX + nextVersion());
+    }
+
+    private static synchronized long nextVersion() {
+        return ++lastVersion;
+    }
+}
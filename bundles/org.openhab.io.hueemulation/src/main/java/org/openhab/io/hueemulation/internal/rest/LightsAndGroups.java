@@ -13,7 +13,9 @@
 package org.openhab.io.hueemulation.internal.rest;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,6 +29,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -118,6 +121,9 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    private final JsonSnapshot lightsSnapshot = new JsonSnapshot();
+    private final JsonSnapshot groupsSnapshot = new JsonSnapshot();
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      */
@@ -247,12 +253,17 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        // Lights are only serialized again if their item changed, see HueLightEntry#toJson
+        Map<String, String> lights = new LinkedHashMap<>();
+        for (Map.Entry<String, HueLightEntry> entry : cs.ds.lights.entrySet()) {
+            lights.put(entry.getKey(), entry.getValue().toJson(cs.gson));
+        }
+        return lightsSnapshot.response(request, lights, cs.gson);
     }
 
     @GET
@@ -288,7 +299,8 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        HueLightEntry hueDevice = cs.ds.lights.get(id);
+        return Response.ok(hueDevice != null ? hueDevice.toJson(cs.gson) : cs.gson.toJson(hueDevice)).build();
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -438,12 +450,16 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        Map<String, String> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, HueGroupEntry> entry : cs.ds.groups.entrySet()) {
+            groups.put(entry.getKey(), cs.gson.toJson(entry.getValue()));
+        }
+        return groupsSnapshot.response(request, groups, cs.gson);
     }
 
     @GET
@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded write-behind buffer for persistence services, based on the buffer of the DynamoDB persistence service.
+ * Buffered values are written in one batch when {@code batchSize} values are pending or every {@code batchInterval}
+ * milliseconds. A failed batch is retried with the next flush, new values wait in the buffer meanwhile. After
+ * {@code maxRetries} failed retries the values are discarded with a warning, they are not spilled to disk.
+ *
+ * @param <T> type of the buffered values
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class BatchWriter<T> {
+
+    /**
+     * What to do with a new value if the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** write the buffer in the calling thread, then buffer the value. It is discarded if writing fails. */
+        FLUSH,
+        /** discard the oldest buffered value */
+        DROP_OLDEST,
+        /** discard the new value */
+        DROP_NEWEST
+    }
+
+    @FunctionalInterface
+    public interface BatchConsumer<T> {
+        /**
+         * Writes a batch. Throwing a {@link PartialWriteException} marks the values it contains for a retry, any
+         * other exception the whole batch.
+         */
+        void write(List<T> batch) throws Exception;
+    }
+
+    /**
+     * Thrown by a {@link BatchConsumer} if only some values of a batch could not be written.
+     */
+    public static class PartialWriteException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final List<?> failedValues;
+
+        /**
+         * @param message the reason
+         * @param failedValues the values of the batch which are retried
+         */
+        public PartialWriteException(String message, List<?> failedValues) {
+            super(message);
+            this.failedValues = failedValues;
+        }
+
+        public List<?> getFailedValues() {
+            return failedValues;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(BatchWriter.class);
+
+    private final String name;
+    private final BatchConsumer<T> consumer;
+    private final int batchSize;
+    private final int maxRetries;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<T> queue;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
+    private volatile boolean stopped = false;
+
+    private List<T> failedBatch = List.of();
+    private int failedAttempts = 0;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedWriteCount = new AtomicLong();
+    private volatile long lastFlushTime = 0;
+
+    /**
+     * @param name name of the writer thread
+     * @param consumer writes a batch to the database
+     * @param batchSize number of buffered values which triggers a write
+     * @param queueSize maximum number of buffered values
+     * @param batchInterval interval in milliseconds for writing the buffered values, 0 to write only when
+     *            {@code batchSize} values are pending
+     * @param overflowPolicy what to do if the buffer is full
+     * @param maxRetries number of retries before a failed batch is discarded
+     */
+    public BatchWriter(String name, BatchConsumer<T> consumer, int batchSize, int queueSize, long batchInterval,
+            OverflowPolicy overflowPolicy, int maxRetries) {
+        this.name = name;
+        this.consumer = consumer;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueSize, this.batchSize));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name));
+        if (batchInterval > 0) {
+            scheduler.scheduleWithFixedDelay(this::scheduledFlush, batchInterval, batchInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+        logger.debug("{}: batchSize={} queueSize={} batchInterval={} ms overflowPolicy={} maxRetries={}", name,
+                batchSize, queueSize, batchInterval, overflowPolicy, maxRetries);
+    }
+
+    /**
+     * Buffers a value.
+     *
+     * @return false if the value was discarded
+     */
+    public boolean add(T value) {
+        if (stopped) {
+            return false;
+        }
+        if (!queue.offer(value) && !handleOverflow(value)) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        if (stopped) {
+            // stop() may have written the buffer before the value was added
+            flush();
+        } else if (queue.size() >= batchSize && flushPending.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushPending.set(false);
+            }
+        }
+        return true;
+    }
+
+    private boolean handleOverflow(T value) {
+        switch (overflowPolicy) {
+            case FLUSH:
+                logger.debug("{}: buffer is full, writing it immediately. Consider increasing the queue size.", name);
+                flush();
+                break;
+            case DROP_OLDEST:
+                if (queue.poll() != null) {
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case DROP_NEWEST:
+                logger.debug("{}: buffer is full, discarding value", name);
+                return false;
+        }
+        return queue.offer(value);
+    }
+
+    /**
+     * Stops the background writer and writes all buffered values.
+     */
+    public void stop() {
+        stopped = true;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("{}: timeout while waiting for pending batch to be written", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (this) {
+            if (!failedBatch.isEmpty() || !queue.isEmpty()) {
+                logger.warn("{}: discarding {} values which could not be written", name,
+                        failedBatch.size() + queue.size());
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // an unhandled exception would stop the scheduled execution
+            logger.warn("{}: writing batch failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the buffered values. A batch which failed before is retried first, the buffered values are only written
+     * if it succeeds.
+     */
+    synchronized void flush() {
+        flushPending.set(false);
+        if (!failedBatch.isEmpty() && !write(failedBatch)) {
+            return;
+        }
+        List<T> batch = new ArrayList<>(queue.size());
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean write(List<T> batch) {
+        long timerStart = System.currentTimeMillis();
+        try {
+            consumer.write(batch);
+        } catch (PartialWriteException e) {
+            List<T> failedValues = (List<T>) e.getFailedValues();
+            writtenCount.addAndGet(batch.size() - failedValues.size());
+            return failed(failedValues, e);
+        } catch (Exception e) {
+            return failed(batch, e);
+        }
+        failedBatch = List.of();
+        failedAttempts = 0;
+        writtenCount.addAndGet(batch.size());
+        lastFlushTime = System.currentTimeMillis() - timerStart;
+        logger.debug("{}: wrote {} values in {} ms, queue size is {}", name, batch.size(), lastFlushTime,
+                queue.size());
+        return true;
+    }
+
+    private boolean failed(List<T> failedValues, Exception e) {
+        failedWriteCount.incrementAndGet();
+        if (++failedAttempts > maxRetries) {
+            droppedCount.addAndGet(failedValues.size());
+            logger.warn("{}: unable to write {} values, discarding them: {}", name, failedValues.size(),
+                    e.getMessage());
+            failedBatch = List.of();
+            failedAttempts = 0;
+        } else {
+            logger.warn("{}: unable to write {} values, retrying with the next batch: {}", name, failedValues.size(),
+                    e.getMessage());
+            failedBatch = failedValues;
+        }
+        return false;
+    }
+
+    /**
+     * @return number of values waiting to be written
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of values written successfully
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return number of values discarded because the buffer was full or writing failed
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return number of failed batch writes
+     */
+    public long getFailedWriteCount() {
+        return failedWriteCount.get();
+    }
+
+    /**
+     * @return duration of the last successful batch write in milliseconds
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.batch.BatchWriter.OverflowPolicy;
+import org.openhab.persistence.batch.BatchWriter.PartialWriteException;
+
+/**
+ * Tests for the {@link BatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class BatchWriterTest {
+
+    // long enough that the scheduled flush does not interfere with the tests
+    private static final long INTERVAL = 60000;
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private BatchWriter<Integer> createWriter(int batchSize, int queueSize, OverflowPolicy policy,
+            BatchWriter.BatchConsumer<Integer> consumer) {
+        return new BatchWriter<>("test", consumer, batchSize, queueSize, INTERVAL, policy, 2);
+    }
+
+    private List<Integer> written() {
+        List<Integer> written = new ArrayList<>();
+        batches.forEach(written::addAll);
+        return written;
+    }
+
+    @Test
+    public void flushWritesBufferedValuesInOneBatch() {
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> batches.add(batch));
+        writer.add(1);
+        writer.add(2);
+        writer.add(3);
+        assertEquals(3, writer.getQueueSize());
+
+        writer.flush();
+
+        assertEquals(List.of(List.of(1, 2, 3)), batches);
+        assertEquals(0, writer.getQueueSize());
+        assertEquals(3, writer.getWrittenCount());
+        writer.stop();
+    }
+
+    @Test
+    public void stopWritesBufferedValues() {
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> batches.add(batch));
+        writer.add(1);
+        writer.stop();
+
+        assertEquals(List.of(List.of(1)), batches);
+        assertFalse(writer.add(2));
+    }
+
+    @Test
+    public void failedBatchIsRetriedBeforeNewValues() {
+        List<Boolean> failures = new ArrayList<>(List.of(true));
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> {
+            if (!failures.isEmpty() && failures.remove(0)) {
+                throw new IllegalStateException("database unavailable");
+            }
+            batches.add(batch);
+        });
+        writer.add(1);
+        writer.flush();
+        assertEquals(1, writer.getFailedWriteCount());
+        assertTrue(batches.isEmpty());
+
+        writer.add(2);
+        writer.flush();
+
+        assertEquals(List.of(List.of(1), List.of(2)), batches);
+        assertEquals(0, writer.getDroppedCount());
+        writer.stop();
+    }
+
+    @Test
+    public void failedBatchIsDiscardedAfterMaxRetries() {
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> {
+            throw new IllegalStateException("database unavailable");
+        });
+        writer.add(1);
+        writer.add(2);
+        writer.flush();
+        writer.flush();
+        writer.flush();
+
+        assertEquals(3, writer.getFailedWriteCount());
+        assertEquals(2, writer.getDroppedCount());
+        writer.stop();
+    }
+
+    @Test
+    public void dropNewestDiscardsNewValueWhenFull() {
+        BatchWriter<Integer> writer = createWriter(2, 2, OverflowPolicy.DROP_NEWEST, batch -> batches.add(batch));
+        synchronized (writer) {
+            // holding the lock keeps the flush triggered by the batch size from running
+            assertTrue(writer.add(1));
+            assertTrue(writer.add(2));
+            assertFalse(writer.add(3));
+        }
+        writer.stop();
+
+        assertEquals(List.of(1, 2), written());
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    public void dropOldestKeepsNewValueWhenFull() {
+        BatchWriter<Integer> writer = createWriter(3, 3, OverflowPolicy.DROP_OLDEST, batch -> batches.add(batch));
+        synchronized (writer) {
+            writer.add(1);
+            writer.add(2);
+            writer.add(3);
+            writer.add(4);
+        }
+        writer.stop();
+
+        assertEquals(List.of(2, 3, 4), written());
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    public void flushWritesBufferWhenFull() {
+        BatchWriter<Integer> writer = createWriter(2, 2, OverflowPolicy.FLUSH, batch -> batches.add(batch));
+        synchronized (writer) {
+            writer.add(1);
+            writer.add(2);
+        }
+        // the buffer is written in the calling thread if the triggered flush has not run yet
+        assertTrue(writer.add(3));
+        writer.stop();
+
+        assertEquals(List.of(1, 2, 3), written());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    public void partialWriteRetriesOnlyFailedValues() {
+        List<Boolean> failures = new ArrayList<>(List.of(true));
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> {
+            if (!failures.isEmpty() && failures.remove(0)) {
+                batches.add(batch.subList(0, 1));
+                throw new PartialWriteException("one value failed", batch.subList(1, batch.size()));
+            }
+            batches.add(batch);
+        });
+        writer.add(1);
+        writer.add(2);
+        writer.add(3);
+        writer.flush();
+        assertEquals(1, writer.getWrittenCount());
+        assertEquals(1, writer.getFailedWriteCount());
+
+        writer.flush();
+
+        assertEquals(List.of(List.of(1), List.of(2, 3)), batches);
+        assertEquals(3, writer.getWrittenCount());
+        assertEquals(0, writer.getDroppedCount());
+        writer.stop();
+    }
+
+    @Test
+    public void zeroIntervalWritesOnlyFullBatches() throws InterruptedException {
+        BatchWriter<Integer> writer = new BatchWriter<>("test", batch -> batches.add(batch), 2, 10, 0,
+                OverflowPolicy.FLUSH, 2);
+        writer.add(1);
+        writer.add(2);
+        for (int i = 0; i < 100 && writer.getWrittenCount() < 2; i++) {
+            Thread.sleep(10);
+        }
+        writer.add(3);
+
+        assertEquals(List.of(List.of(1, 2)), batches);
+        assertEquals(1, writer.getQueueSize());
+        writer.stop();
+        assertEquals(List.of(1, 2, 3), written());
+    }
+
+    @Test
+    public void valueAddedAfterStopIsDiscarded() {
+        BatchWriter<Integer> writer = createWriter(10, 10, OverflowPolicy.FLUSH, batch -> batches.add(batch));
+        writer.stop();
+
+        assertFalse(writer.add(1));
+        assertTrue(batches.isEmpty());
+    }
+}
@@ -12,26 +12,20 @@
  */
 package org.openhab.persistence.dynamodb.internal;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -43,6 +37,8 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.batch.BatchWriter;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -87,8 +83,7 @@ import com.amazonaws.services.dynamodbv2.model.WriteRequest;
         QueryablePersistenceService.class }, configurationPid = "org.openhab.dynamodb", //
         property = Constants.SERVICE_PID + "=org.openhab.dynamodb")
 @ConfigurableService(category = "persistence", label = "DynamoDB Persistence Service", description_uri = DynamoDBPersistenceService.CONFIG_URI)
-public class DynamoDBPersistenceService extends AbstractBufferedPersistenceService<DynamoDBItem<?>>
-        implements QueryablePersistenceService {
+public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     protected static final String CONFIG_URI = "persistence:dynamodb";
 
@@ -163,6 +158,7 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
     private static final int WAIT_ON_FIRST_RESOURCE_NOT_FOUND_MILLIS = 5000;
     private static final int[] WAIT_MILLIS_IN_RETRIES = new int[] { 100, 100, 200, 300, 500 };
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
+    private static final int BATCH_MAX_RETRIES = 3;
 
     private final ItemRegistry itemRegistry;
     private @Nullable DynamoDBClient db;
@@ -170,9 +166,7 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
     private boolean isProperlyConfigured;
     private @NonNullByDefault({}) DynamoDBConfig dbConfig;
     private @NonNullByDefault({}) DynamoDBTableNameResolver tableNameResolver;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory(DYNAMODB_THREADPOOL_NAME));
-    private @Nullable ScheduledFuture<?> writeBufferedDataFuture;
+    private @Nullable BatchWriter<DynamoDBItem<?>> batchWriter;
 
     @Activate
     public DynamoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
@@ -191,6 +185,7 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
 
     @Activate
     public void activate(final @Nullable BundleContext bundleContext, final Map<String, Object> config) {
+        stopBatchWriter();
         resetClient();
         dbConfig = DynamoDBConfig.fromConfig(config);
         if (dbConfig == null) {
@@ -210,26 +205,11 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
             return;
         }
 
-        writeBufferedDataFuture = null;
-        resetWithBufferSize(dbConfig.getBufferSize());
-        long commitIntervalMillis = dbConfig.getBufferCommitIntervalMillis();
-        if (commitIntervalMillis > 0) {
-            writeBufferedDataFuture = scheduler.scheduleWithFixedDelay(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        DynamoDBPersistenceService.this.flushBufferedData();
-                    } catch (RuntimeException e) {
-                        // We want to catch all unexpected exceptions since all unhandled exceptions make
-                        // ScheduledExecutorService halt the regular running of the task.
-                        // It is better to print out the exception, and try again
-                        // (on next cycle)
-                        logger.warn(
-                                "Execution of scheduled flushing of buffered data failed unexpectedly. Ignoring exception, trying again according to configured commit interval of {} ms.",
-                                commitIntervalMillis, e);
-                    }
-                }
-            }, 0, commitIntervalMillis, TimeUnit.MILLISECONDS);
+        int bufferSize = dbConfig.getBufferSize();
+        if (bufferSize > 0) {
+            // a full buffer is written in the background, FLUSH only applies if values arrive faster than that
+            batchWriter = new BatchWriter<>(DYNAMODB_THREADPOOL_NAME, this::writeBatch, bufferSize, bufferSize,
+                    dbConfig.getBufferCommitIntervalMillis(), BatchWriter.OverflowPolicy.FLUSH, BATCH_MAX_RETRIES);
         }
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
@@ -238,13 +218,19 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
     @Deactivate
     public void deactivate() {
         logger.debug("dynamodb persistence service deactivated");
-        if (writeBufferedDataFuture != null) {
-            writeBufferedDataFuture.cancel(false);
-            writeBufferedDataFuture = null;
-        }
+        // buffered values are written before the client is closed
+        stopBatchWriter();
         resetClient();
     }
 
+    private void stopBatchWriter() {
+        BatchWriter<DynamoDBItem<?>> writer = batchWriter;
+        if (writer != null) {
+            writer.stop();
+            batchWriter = null;
+        }
+    }
+
     /**
      * Initializes DynamoDBClient (db field)
      *
@@ -265,8 +251,37 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
     }
 
     @Override
-    public DynamoDBItem<?> persistenceItemFromState(String name, State state, ZonedDateTime time) {
-        return AbstractDynamoDBItem.fromState(name, state, time);
+    public void store(Item item) {
+        store(item, null);
+    }
+
+    @Override
+    public void store(Item item, @Nullable String alias) {
+        if (item.getState() instanceof UnDefType) {
+            logger.debug("Undefined item state received. Not storing item {}.", item.getName());
+            return;
+        }
+        if (!isReadyToStore()) {
+            return;
+        }
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.now(), ZoneId.systemDefault());
+        String name = (alias != null) ? alias : item.getName();
+        DynamoDBItem<?> dynamoItem = AbstractDynamoDBItem.fromState(name, item.getState(), time);
+        logger.trace("store() called with item {}, which was converted to {}", item, dynamoItem);
+        BatchWriter<DynamoDBItem<?>> writer = batchWriter;
+        if (writer == null) {
+            // buffering is disabled, write synchronously
+            logger.debug("Writing immediately item {}", item.getName());
+            try {
+                writeBatch(List.of(dynamoItem));
+            } catch (AmazonClientException e) {
+                logger.warn("Writing item {} to DynamoDB failed: {}", item.getName(), e.getMessage());
+            }
+        } else if (writer.add(dynamoItem)) {
+            logger.debug("Buffered item {}", item.getName());
+        } else {
+            logger.warn("Discarding item {}, it could not be buffered", item.getName());
+        }
     }
 
     /**
@@ -368,8 +383,7 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
         }
     }
 
-    @Override
-    protected boolean isReadyToStore() {
+    private boolean isReadyToStore() {
         return isProperlyConfigured && ensureClient();
     }
 
@@ -388,47 +402,21 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
         return Collections.emptySet();
     }
 
-    @Override
-    protected void flushBufferedData() {
-        if (buffer != null && buffer.isEmpty()) {
-            return;
-        }
-        logger.debug("Writing buffered data. Buffer size: {}", buffer.size());
-
-        for (;;) {
-            Map<String, Deque<DynamoDBItem<?>>> itemsByTable = readBuffer();
-            // Write batch of data, one table at a time
-            for (Entry<String, Deque<DynamoDBItem<?>>> entry : itemsByTable.entrySet()) {
-                String tableName = entry.getKey();
-                Deque<DynamoDBItem<?>> batch = entry.getValue();
-                if (!batch.isEmpty()) {
-                    flushBatch(getDBMapper(tableName), batch);
-                }
-            }
-            if (buffer != null && buffer.isEmpty()) {
-                break;
-            }
+    /**
+     * Writes a batch of data to DynamoDB, one table at a time. Items rejected by DynamoDB are retried with
+     * exponential back-off, an exception of the client fails the whole batch.
+     *
+     * @param batch batch of data to write to DynamoDB
+     */
+    private void writeBatch(List<DynamoDBItem<?>> batch) {
+        Map<String, List<DynamoDBItem<?>>> batchesByTable = new HashMap<>(2);
+        for (DynamoDBItem<?> dynamoItem : batch) {
+            batchesByTable.computeIfAbsent(tableNameResolver.fromItem(dynamoItem), t -> new ArrayList<>())
+                    .add(dynamoItem);
         }
-    }
-
-    private Map<String, Deque<DynamoDBItem<?>>> readBuffer() {
-        Map<String, Deque<DynamoDBItem<?>>> batchesByTable = new HashMap<>(2);
-        // Get batch of data
-        while (!buffer.isEmpty()) {
-            DynamoDBItem<?> dynamoItem = buffer.poll();
-            if (dynamoItem == null) {
-                break;
-            }
-            String tableName = tableNameResolver.fromItem(dynamoItem);
-            Deque<DynamoDBItem<?>> batch = batchesByTable.computeIfAbsent(tableName, new Function<>() {
-                @Override
-                public @Nullable Deque<DynamoDBItem<?>> apply(@Nullable String t) {
-                    return new ArrayDeque<>();
-                }
-            });
-            batch.add(dynamoItem);
+        for (Entry<String, List<DynamoDBItem<?>>> entry : batchesByTable.entrySet()) {
+            flushBatch(getDBMapper(entry.getKey()), entry.getValue());
         }
-        return batchesByTable;
     }
 
     /**
@@ -437,7 +425,7 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
      * @param mapper mapper associated with the batch
      * @param batch batch of data to write to DynamoDB
      */
-    private void flushBatch(DynamoDBMapper mapper, Deque<DynamoDBItem<?>> batch) {
+    private void flushBatch(DynamoDBMapper mapper, List<DynamoDBItem<?>> batch) {
         long currentTimeMillis = System.currentTimeMillis();
         List<FailedBatch> failed = mapper.batchSave(batch);
         for (FailedBatch failedBatch : failed) {
@@ -467,10 +455,10 @@ public class DynamoDBPersistenceService extends AbstractBufferedPersistenceServi
      * @param batch original batch of data. Used for logging and to determine table name
      * @param failedBatch failed batch that should be retried
      */
-    private void retryFlushAfterCreatingTable(DynamoDBMapper mapper, Deque<DynamoDBItem<?>> batch,
+    private void retryFlushAfterCreatingTable(DynamoDBMapper mapper, List<DynamoDBItem<?>> batch,
             FailedBatch failedBatch) {
         logger.debug("Table was not found. Trying to create table and try saving again");
-        if (createTable(mapper, batch.peek().getClass())) {
+        if (createTable(mapper, batch.get(0).getClass())) {
             logger.debug("Table creation successful, trying to save again");
             if (!failedBatch.getUnprocessedItems().isEmpty()) {
                 ExponentialBackoffRetry retry = new ExponentialBackoffRetry(failedBatch.getUnprocessedItems());
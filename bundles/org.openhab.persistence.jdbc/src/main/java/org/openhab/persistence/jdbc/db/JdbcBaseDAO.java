@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -86,6 +87,9 @@ public class JdbcBaseDAO {
     protected String sqlCreateItemTable;
     protected String sqlInsertItemValue;
 
+    // insert statements with the table specific placeholders already replaced, built once per item table and type
+    private final Map<String, String> sqlInsertItemValueCache = new ConcurrentHashMap<>();
+
     /********
      * INIT *
      ********/
@@ -314,6 +318,7 @@ public class JdbcBaseDAO {
         if (!vol.isEmpty()) {
             String sql = updateItemTableNamesProvider(vol);
             Yank.execute(sql, null);
+            sqlInsertItemValueCache.clear();
         }
     }
 
@@ -327,14 +332,36 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, ItemVO vo) {
         ItemVO storedVO = storeItemValueProvider(item, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { storedVO.getTableName(), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = new Object[] { storedVO.getValue(), storedVO.getValue() };
+        String sql = sqlInsertItemValueCache.computeIfAbsent(insertSqlCacheKey(storedVO),
+                k -> storeItemValueSqlProvider(storedVO));
+        Object[] params = storeItemValueParamsProvider(storedVO);
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         Yank.execute(sql, params);
     }
 
+    /**
+     * Stores multiple values of a single item table with one JDBC batch. The statement is the same as for
+     * {@link #doStoreItemValue(Item, ItemVO)}, so the time column is filled with the configured tablePrimaryValue.
+     *
+     * @param vol values prepared by {@link #prepareItemValue(Item, ItemVO)}, all for the same table
+     * @return false if the database reported an error, Yank logs it
+     */
+    public boolean doStoreItemValues(List<ItemVO> vol) {
+        if (vol.isEmpty()) {
+            return true;
+        }
+        ItemVO firstVO = vol.get(0);
+        String sql = sqlInsertItemValueCache.computeIfAbsent(insertSqlCacheKey(firstVO),
+                k -> storeItemValueSqlProvider(firstVO));
+        Object[][] params = vol.stream().map(this::storeItemValueParamsProvider).toArray(Object[][]::new);
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        return Yank.executeBatch(sql, params) != null;
+    }
+
+    private static String insertSqlCacheKey(ItemVO vo) {
+        return vo.getTableName() + "#" + vo.getDbType();
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -396,6 +423,16 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    protected String storeItemValueSqlProvider(ItemVO vo) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { vo.getTableName(), sqlTypes.get("tablePrimaryValue") });
+    }
+
+    protected Object[] storeItemValueParamsProvider(ItemVO vo) {
+        return new Object[] { vo.getValue(), vo.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -578,6 +615,13 @@ public class JdbcBaseDAO {
         return itemType;
     }
 
+    /**
+     * Converts the current item state into the value to be stored, without writing it to the database.
+     */
+    public ItemVO prepareItemValue(Item item, ItemVO vo) {
+        return storeItemValueProvider(item, vo);
+    }
+
     /******************************
      * public Getters and Setters *
      ******************************/
@@ -65,6 +65,7 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
                                                                                  // of 21845
+        databaseProps.setProperty("dataSource.rewriteBatchedStatements", "true");// multi-row inserts for batches
 
         // Properties for HikariCP
         // Use driverClassName
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.batch.BatchWriter;
+import org.openhab.persistence.batch.BatchWriter.PartialWriteException;
+import org.openhab.persistence.jdbc.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.model.ItemVO;
+import org.openhab.persistence.jdbc.utils.MovingAverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the values queued by a {@link BatchWriter} with one JDBC batch per item table.
+ * <p>
+ * If the batch of a table fails, its rows are written one by one, so a single bad row, e.g. a timestamp which
+ * already exists in a database without upsert, does not discard the other rows. Only the rows which still fail are
+ * retried by the {@link BatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchConsumer implements BatchWriter.BatchConsumer<ItemVO> {
+    private final Logger logger = LoggerFactory.getLogger(JdbcBatchConsumer.class);
+
+    private final JdbcBaseDAO dao;
+    private final boolean enableLogTime;
+
+    private final MovingAverage flushTimeAverage = new MovingAverage(50);
+
+    public JdbcBatchConsumer(JdbcBaseDAO dao, boolean enableLogTime) {
+        this.dao = dao;
+        this.enableLogTime = enableLogTime;
+    }
+
+    @Override
+    public void write(List<ItemVO> batch) throws PartialWriteException {
+        long timerStart = System.currentTimeMillis();
+
+        // values captured at the same time would also be stored at the same time, so only the last one is kept
+        Map<String, Map<Long, ItemVO>> tables = new LinkedHashMap<>();
+        for (ItemVO vo : batch) {
+            tables.computeIfAbsent(vo.getTableName(), t -> new LinkedHashMap<>()).put(vo.getTime().getTime(), vo);
+        }
+        List<ItemVO> failed = new ArrayList<>();
+        for (Map.Entry<String, Map<Long, ItemVO>> table : tables.entrySet()) {
+            List<ItemVO> rows = new ArrayList<>(table.getValue().values());
+            if (store(rows)) {
+                continue;
+            }
+            if (rows.size() > 1) {
+                logger.debug("JDBC::JdbcBatchConsumer: batch for table '{}' failed, storing {} values one by one",
+                        table.getKey(), rows.size());
+                for (ItemVO vo : rows) {
+                    if (!store(List.of(vo))) {
+                        failed.add(vo);
+                    }
+                }
+            } else {
+                failed.addAll(rows);
+            }
+        }
+
+        long timerDiff = System.currentTimeMillis() - timerStart;
+        synchronized (flushTimeAverage) {
+            flushTimeAverage.add(timerDiff);
+        }
+        if (enableLogTime) {
+            logger.info("JDBC::JdbcBatchConsumer: stored {} values in {} tables in {} ms (average {} ms)",
+                    batch.size() - failed.size(), tables.size(), timerDiff, getAverageFlushTime());
+        } else {
+            logger.debug("JDBC::JdbcBatchConsumer: stored {} values in {} tables in {} ms",
+                    batch.size() - failed.size(), tables.size(), timerDiff);
+        }
+        if (!failed.isEmpty()) {
+            throw new PartialWriteException("unable to store " + failed.size() + " values", failed);
+        }
+    }
+
+    private boolean store(List<ItemVO> rows) {
+        try {
+            return dao.doStoreItemValues(rows);
+        } catch (RuntimeException e) {
+            logger.debug("JDBC::JdbcBatchConsumer: unable to store {} values in table '{}': {}", rows.size(),
+                    rows.get(0).getTableName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return average duration of the last 50 batch writes in milliseconds
+     */
+    public double getAverageFlushTime() {
+        synchronized (flushTimeAverage) {
+            return flushTimeAverage.getAverageDouble();
+        }
+    }
+}
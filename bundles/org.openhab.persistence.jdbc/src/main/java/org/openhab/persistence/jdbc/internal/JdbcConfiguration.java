@@ -60,6 +60,14 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // batched writes, disabled if batchSize is 0
+    private int batchSize = 0;
+    private int batchQueueSize = 10000;
+    private int batchInterval = 1000;
+
+    // paged queries, disabled if queryPageSize is 0
+    private int queryPageSize = 0;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -173,6 +181,30 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bq = (String) configuration.get("batchQueueSize");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueSize = Integer.parseInt(bq);
+            logger.debug("JDBC::updateConfig: batchQueueSize={}", batchQueueSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchInterval = Integer.parseInt(bi);
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String qp = (String) configuration.get("queryPageSize");
+        if (qp != null && !qp.isBlank() && isNumericPattern.matcher(qp).matches()) {
+            queryPageSize = Integer.parseInt(qp);
+            logger.debug("JDBC::updateConfig: queryPageSize={}", queryPageSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -350,6 +382,22 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchQueueSize() {
+        return batchQueueSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getQueryPageSize() {
+        return queryPageSize;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
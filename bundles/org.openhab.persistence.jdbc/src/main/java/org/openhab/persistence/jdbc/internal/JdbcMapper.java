@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import org.openhab.core.items.Item;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.persistence.batch.BatchWriter;
 import org.openhab.persistence.jdbc.model.ItemVO;
 import org.openhab.persistence.jdbc.model.ItemsVO;
 import org.openhab.persistence.jdbc.model.JdbcPersistenceItemInfo;
@@ -46,9 +48,12 @@ public class JdbcMapper {
     protected boolean initialized = false;
     protected JdbcConfiguration conf = null;
     protected final Map<String, String> sqlTables = new HashMap<>();
+    protected BatchWriter<ItemVO> batchWriter = null;
     private long afterAccessMin = 10000;
     private long afterAccessMax = 0;
     private static final String ITEM_NAME_PATTERN = "[^a-zA-Z_0-9\\-]";
+    private static final String BATCH_THREADPOOL_NAME = "jdbcPersistenceService";
+    private static final int BATCH_MAX_RETRIES = 3;
 
     public JdbcMapper(TimeZoneProvider timeZoneProvider) {
         this.timeZoneProvider = timeZoneProvider;
@@ -153,6 +158,15 @@ public class JdbcMapper {
             return item;
         }
         long timerStart = System.currentTimeMillis();
+        BatchWriter<ItemVO> writer = batchWriter;
+        if (writer != null) {
+            ItemVO vo = conf.getDBDAO().prepareItemValue(item, new ItemVO(tableName, null));
+            vo.setTime(new Date(timerStart));
+            if (writer.add(vo)) {
+                return item;
+            }
+            logger.debug("JDBC::storeItemValue: unable to queue item '{}', storing it immediately", item.getName());
+        }
         conf.getDBDAO().doStoreItemValue(item, new ItemVO(tableName, null));
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
         errCnt = 0;
@@ -195,6 +209,32 @@ public class JdbcMapper {
         return true;
     }
 
+    protected void startBatchWriter() {
+        stopBatchWriter();
+        if (conf.getBatchSize() > 0) {
+            JdbcBatchConsumer consumer = new JdbcBatchConsumer(conf.getDBDAO(), conf.enableLogTime);
+            batchWriter = new BatchWriter<>(BATCH_THREADPOOL_NAME, batch -> storeBatch(consumer, batch),
+                    conf.getBatchSize(), conf.getBatchQueueSize(), conf.getBatchInterval(),
+                    BatchWriter.OverflowPolicy.FLUSH, BATCH_MAX_RETRIES);
+        }
+    }
+
+    private void storeBatch(JdbcBatchConsumer consumer, List<ItemVO> batch) throws Exception {
+        if (!checkDBAccessability()) {
+            throw new IllegalStateException("no connection to database");
+        }
+        consumer.write(batch);
+        errCnt = 0;
+    }
+
+    protected void stopBatchWriter() {
+        BatchWriter<ItemVO> writer = batchWriter;
+        batchWriter = null;
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
     protected void closeConnection() {
         logger.debug("JDBC::closeConnection");
         // Closes all open connection pools
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lazily loaded query result. The rows are read page by page with the paging of the {@link FilterCriteria}, so only
+ * one page of {@link HistoricItem}s is held in memory while iterating. No database connection is kept open between
+ * two pages.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcPagedHistoricItems implements Iterable<HistoricItem> {
+    private final Logger logger = LoggerFactory.getLogger(JdbcPagedHistoricItems.class);
+
+    private final FilterCriteria filter;
+    private final int pageSize;
+    private final Function<FilterCriteria, @Nullable List<HistoricItem>> pageLoader;
+
+    /**
+     * @param filter the original filter, its page number has to be 0
+     * @param pageSize number of rows to read with one query
+     * @param pageLoader executes the query for one page
+     */
+    public JdbcPagedHistoricItems(FilterCriteria filter, int pageSize,
+            Function<FilterCriteria, @Nullable List<HistoricItem>> pageLoader) {
+        this.filter = filter;
+        this.pageSize = pageSize;
+        this.pageLoader = pageLoader;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        // rows stored while iterating must not shift the following pages
+        ZonedDateTime endDate = filter.getEndDate();
+        final ZonedDateTime pageEndDate = endDate != null ? endDate : ZonedDateTime.now();
+        final long maxRows = filter.getPageSize();
+
+        return new Iterator<HistoricItem>() {
+            private int pageNumber = 0;
+            private long rows = 0;
+            private boolean lastPage = false;
+            private Iterator<HistoricItem> page = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !lastPage) {
+                    List<HistoricItem> items = pageLoader.apply(pageFilter(pageNumber, pageEndDate));
+                    if (items == null) {
+                        logger.warn("JDBC::query: reading page {} of item '{}' failed, the result ends after {} rows",
+                                pageNumber, filter.getItemName(), rows);
+                        lastPage = true;
+                        break;
+                    }
+                    pageNumber++;
+                    lastPage = items.size() < pageSize || (long) pageNumber * pageSize >= maxRows;
+                    page = items.iterator();
+                }
+                return page.hasNext() && rows < maxRows;
+            }
+
+            @Override
+            public HistoricItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                rows++;
+                return page.next();
+            }
+        };
+    }
+
+    private FilterCriteria pageFilter(int pageNumber, ZonedDateTime endDate) {
+        FilterCriteria pageFilter = new FilterCriteria().setItemName(filter.getItemName()).setEndDate(endDate)
+                .setOrdering(filter.getOrdering()).setPageNumber(pageNumber).setPageSize(pageSize);
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null) {
+            pageFilter.setBeginDate(beginDate);
+        }
+        return pageFilter;
+    }
+}
@@ -104,6 +104,7 @@ public class JdbcPersistenceService extends JdbcMapper implements QueryablePersi
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopBatchWriter();
         initialized = false;
     }
 
@@ -201,6 +202,15 @@ public class JdbcPersistenceService extends JdbcMapper implements QueryablePersi
             table = getTable(item);
         }
 
+        int queryPageSize = conf.getQueryPageSize();
+        if (queryPageSize > 0 && filter.getPageNumber() == 0 && filter.getPageSize() > queryPageSize) {
+            logger.debug("JDBC::query: query for {} is read in pages of {} rows", itemName, queryPageSize);
+            final Item queryItem = item;
+            final String queryTable = table;
+            return new JdbcPagedHistoricItems(filter, queryPageSize, pageFilter -> getHistItemFilterQuery(pageFilter,
+                    conf.getNumberDecimalcount(), queryTable, queryItem));
+        }
+
         long timerStart = System.currentTimeMillis();
         List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
 
@@ -215,9 +225,11 @@ public class JdbcPersistenceService extends JdbcMapper implements QueryablePersi
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopBatchWriter();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             checkDBSchema();
+            startBatchWriter();
             // connection has been established ... initialization completed!
             initialized = true;
         } else {
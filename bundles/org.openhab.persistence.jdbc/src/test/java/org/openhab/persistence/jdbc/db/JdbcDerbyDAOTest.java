@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.db;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZoneId;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+
+/**
+ * Tests for the queries of the {@link JdbcDerbyDAO}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcDerbyDAOTest {
+
+    private final JdbcDerbyDAO dao = new JdbcDerbyDAO();
+
+    @Test
+    public void pagedQuerySkipsPreviousPages() {
+        FilterCriteria filter = new FilterCriteria().setItemName("item").setOrdering(Ordering.DESCENDING)
+                .setPageNumber(2).setPageSize(10);
+
+        String query = dao.histItemFilterQueryProvider(filter, -1, "item_0001", "SWITCHITEM", ZoneId.of("UTC"));
+
+        assertThat(query, endsWith("ORDER BY time DESC OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY"));
+    }
+}
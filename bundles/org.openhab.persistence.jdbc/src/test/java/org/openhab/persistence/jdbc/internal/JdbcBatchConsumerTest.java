@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.batch.BatchWriter;
+import org.openhab.persistence.batch.BatchWriter.OverflowPolicy;
+import org.openhab.persistence.batch.BatchWriter.PartialWriteException;
+import org.openhab.persistence.jdbc.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.model.ItemVO;
+
+/**
+ * Tests for the {@link JdbcBatchConsumer} and its use with a {@link BatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchConsumerTest {
+
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Stores the rows in memory and, like a database without upsert, rejects the whole batch if a time already
+     * exists in the table.
+     */
+    private static class FakeDAO extends JdbcBaseDAO {
+        private final Set<String> rows = new HashSet<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public synchronized boolean doStoreItemValues(List<ItemVO> vol) {
+            batchSizes.add(vol.size());
+            if (vol.stream().anyMatch(vo -> rows.contains(key(vo)))) {
+                return false;
+            }
+            vol.forEach(vo -> rows.add(key(vo)));
+            return true;
+        }
+
+        synchronized boolean contains(String tableName, long time) {
+            return rows.contains(tableName + "@" + time);
+        }
+
+        synchronized int size() {
+            return rows.size();
+        }
+
+        private static String key(ItemVO vo) {
+            return vo.getTableName() + "@" + vo.getTime().getTime();
+        }
+    }
+
+    private final FakeDAO dao = new FakeDAO();
+    private final JdbcBatchConsumer consumer = new JdbcBatchConsumer(dao, false);
+
+    private static ItemVO value(String tableName, long time) {
+        ItemVO vo = new ItemVO(tableName, null);
+        vo.setTime(new Date(time));
+        return vo;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    public void writesOneBatchPerTable() throws Exception {
+        consumer.write(List.of(value("item0001", 1), value("item0002", 1), value("item0001", 2)));
+
+        assertEquals(List.of(2, 1), dao.batchSizes);
+        assertTrue(dao.contains("item0001", 1));
+        assertTrue(dao.contains("item0001", 2));
+        assertTrue(dao.contains("item0002", 1));
+    }
+
+    @Test
+    public void valuesWithSameTimeAreWrittenOnce() throws Exception {
+        consumer.write(List.of(value("item0001", 1), value("item0001", 1)));
+
+        assertEquals(List.of(1), dao.batchSizes);
+        assertEquals(1, dao.size());
+    }
+
+    @Test
+    public void failedBatchIsWrittenRowByRow() throws Exception {
+        consumer.write(List.of(value("item0001", 2)));
+        ItemVO duplicate = value("item0001", 2);
+
+        PartialWriteException e = assertThrows(PartialWriteException.class, () -> consumer
+                .write(List.of(value("item0001", 1), duplicate, value("item0001", 3), value("item0002", 2))));
+
+        assertEquals(List.of(duplicate), e.getFailedValues());
+        assertTrue(dao.contains("item0001", 1));
+        assertTrue(dao.contains("item0001", 3));
+        assertTrue(dao.contains("item0002", 2));
+        // the first batch, the failed batch of item0001, its three rows and the batch of item0002
+        assertEquals(List.of(1, 3, 1, 1, 1, 1), dao.batchSizes);
+    }
+
+    @Test
+    public void fullBatchIsWrittenWithoutInterval() throws Exception {
+        BatchWriter<ItemVO> writer = new BatchWriter<>("test", consumer, 3, 10, 0, OverflowPolicy.FLUSH, 3);
+        writer.add(value("item0001", 1));
+        writer.add(value("item0001", 2));
+        Thread.sleep(100);
+        assertEquals(0, dao.size());
+
+        writer.add(value("item0001", 3));
+
+        waitFor(() -> dao.size() == 3);
+        assertEquals(List.of(3), dao.batchSizes);
+        writer.stop();
+    }
+
+    @Test
+    public void partialBatchIsWrittenAfterInterval() throws Exception {
+        BatchWriter<ItemVO> writer = new BatchWriter<>("test", consumer, 100, 1000, 50, OverflowPolicy.FLUSH, 3);
+        writer.add(value("item0001", 1));
+        writer.add(value("item0002", 1));
+
+        waitFor(() -> dao.size() == 2);
+        assertEquals(0, writer.getQueueSize());
+        writer.stop();
+    }
+
+    @Test
+    public void failingValueIsRetriedAndDiscarded() throws Exception {
+        consumer.write(List.of(value("item0001", 2)));
+        BatchWriter<ItemVO> writer = new BatchWriter<>("test", consumer, 3, 10, 0, OverflowPolicy.FLUSH, 1);
+        writer.add(value("item0001", 1));
+        writer.add(value("item0001", 2));
+        writer.add(value("item0001", 3));
+        waitFor(() -> writer.getFailedWriteCount() == 1);
+        assertEquals(2, writer.getWrittenCount());
+
+        writer.stop();
+
+        assertEquals(2, writer.getFailedWriteCount());
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(3, dao.size());
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.model.JdbcHistoricItem;
+
+/**
+ * Tests for the {@link JdbcPagedHistoricItems}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcPagedHistoricItemsTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    private final List<HistoricItem> rows = IntStream.range(0, 25)
+            .mapToObj(i -> new JdbcHistoricItem("item", new DecimalType(i), NOW.minusMinutes(i)))
+            .collect(Collectors.toList());
+    private final List<Integer> loadedPages = new ArrayList<>();
+
+    private @Nullable List<HistoricItem> loadPage(FilterCriteria pageFilter) {
+        loadedPages.add(pageFilter.getPageNumber());
+        int from = Math.min(pageFilter.getPageNumber() * pageFilter.getPageSize(), rows.size());
+        int to = Math.min(from + pageFilter.getPageSize(), rows.size());
+        return rows.subList(from, to);
+    }
+
+    private List<HistoricItem> read(Iterable<HistoricItem> items) {
+        List<HistoricItem> result = new ArrayList<>();
+        items.forEach(result::add);
+        return result;
+    }
+
+    @Test
+    public void readsAllPages() {
+        FilterCriteria filter = new FilterCriteria().setItemName("item");
+        JdbcPagedHistoricItems items = new JdbcPagedHistoricItems(filter, 10, this::loadPage);
+
+        assertEquals(rows, read(items));
+        assertEquals(List.of(0, 1, 2), loadedPages);
+    }
+
+    @Test
+    public void stopsAtPageSizeOfFilter() {
+        FilterCriteria filter = new FilterCriteria().setItemName("item").setPageSize(15);
+        JdbcPagedHistoricItems items = new JdbcPagedHistoricItems(filter, 10, this::loadPage);
+
+        assertEquals(rows.subList(0, 15), read(items));
+        assertEquals(List.of(0, 1), loadedPages);
+    }
+
+    @Test
+    public void endsAtFailedPage() {
+        FilterCriteria filter = new FilterCriteria().setItemName("item");
+        JdbcPagedHistoricItems items = new JdbcPagedHistoricItems(filter, 10,
+                pageFilter -> pageFilter.getPageNumber() == 1 ? null : loadPage(pageFilter));
+
+        assertEquals(rows.subList(0, 10), read(items));
+    }
+}
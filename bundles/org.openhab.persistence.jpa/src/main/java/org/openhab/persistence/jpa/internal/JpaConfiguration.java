@@ -14,6 +14,7 @@ package org.openhab.persistence.jpa.internal;
 
 import java.util.Map;
 
+import org.openhab.persistence.batch.BatchWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +33,10 @@ public class JpaConfiguration {
     private static final String CFG_USERNAME = "user";
     private static final String CFG_PASSWORD = "password";
     private static final String CFG_SYNCMAPPING = "syncmappings";
+    private static final String CFG_BATCH_SIZE = "batchSize";
+    private static final String CFG_BATCH_QUEUE_SIZE = "batchQueueSize";
+    private static final String CFG_BATCH_INTERVAL = "batchInterval";
+    private static final String CFG_BATCH_OVERFLOW_POLICY = "batchOverflowPolicy";
 
     public static boolean isInitialized = false;
 
@@ -40,6 +45,10 @@ public class JpaConfiguration {
     public final String dbUserName;
     public final String dbPassword;
     public final String dbSyncMapping;
+    public final int batchSize;
+    public final int batchQueueSize;
+    public final int batchInterval;
+    public final BatchWriter.OverflowPolicy batchOverflowPolicy;
 
     public JpaConfiguration(final Map<String, Object> properties) {
         logger.debug("Update config...");
@@ -77,7 +86,35 @@ public class JpaConfiguration {
         }
         dbSyncMapping = (String) properties.get(CFG_SYNCMAPPING);
 
+        batchSize = getInt(properties, CFG_BATCH_SIZE, 0);
+        batchQueueSize = getInt(properties, CFG_BATCH_QUEUE_SIZE, 10000);
+        batchInterval = getInt(properties, CFG_BATCH_INTERVAL, 1000);
+        BatchWriter.OverflowPolicy policy = BatchWriter.OverflowPolicy.FLUSH;
+        param = (String) properties.get(CFG_BATCH_OVERFLOW_POLICY);
+        if (param != null && !param.isBlank()) {
+            try {
+                policy = BatchWriter.OverflowPolicy.valueOf(param.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid {} '{}' in jpa.cfg, using {}", CFG_BATCH_OVERFLOW_POLICY, param, policy);
+            }
+        }
+        batchOverflowPolicy = policy;
+
         isInitialized = true;
         logger.debug("Update config... done");
     }
+
+    private int getInt(final Map<String, Object> properties, String key, int defaultValue) {
+        Object param = properties.get(key);
+        logger.debug("{}: {}", key, param);
+        if (param == null || param.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(param.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}' in jpa.cfg, using {}", key, param, defaultValue);
+            return defaultValue;
+        }
+    }
 }
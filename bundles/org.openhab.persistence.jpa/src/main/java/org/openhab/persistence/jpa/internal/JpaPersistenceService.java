@@ -38,6 +38,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.batch.BatchWriter;
 import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
@@ -57,6 +58,8 @@ import org.slf4j.LoggerFactory;
 @Component(service = { PersistenceService.class,
         QueryablePersistenceService.class }, configurationPid = "org.openhab.jpa", configurationPolicy = ConfigurationPolicy.REQUIRE)
 public class JpaPersistenceService implements QueryablePersistenceService {
+    private static final int BATCH_MAX_RETRIES = 3;
+
     private final Logger logger = LoggerFactory.getLogger(JpaPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
@@ -65,6 +68,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private @NonNullByDefault({}) JpaConfiguration config;
 
+    private @Nullable BatchWriter<JpaPersistentItem> batchWriter;
+
     @Activate
     public JpaPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
@@ -86,6 +91,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     public void activate(BundleContext context, Map<String, Object> properties) {
         logger.debug("Activating jpa persistence service");
         config = new JpaConfiguration(properties);
+        if (config.batchSize > 0) {
+            batchWriter = new BatchWriter<>("jpaPersistenceService", this::persistBatch, config.batchSize,
+                    config.batchQueueSize, config.batchInterval, config.batchOverflowPolicy, BATCH_MAX_RETRIES);
+        }
     }
 
     /**
@@ -94,6 +103,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating jpa persistence service");
+        BatchWriter<JpaPersistentItem> writer = batchWriter;
+        if (writer != null) {
+            writer.stop();
+            batchWriter = null;
+        }
         closeEntityManagerFactory();
     }
 
@@ -142,6 +156,14 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
+        BatchWriter<JpaPersistentItem> writer = batchWriter;
+        if (writer != null) {
+            if (writer.add(pItem)) {
+                logger.debug("Buffered item {}", name);
+            }
+            return;
+        }
+
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
             logger.debug("Persisting item...");
@@ -160,6 +182,31 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         logger.debug("Storing item...done");
     }
 
+    /**
+     * Persists the buffered items in a single transaction. The transaction is rolled back if any item fails, so the
+     * whole batch can be retried.
+     */
+    private void persistBatch(List<JpaPersistentItem> batch) {
+        EntityManager em = getEntityManagerFactory().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (JpaPersistentItem pItem : batch) {
+                // an id may have been assigned by a rolled back attempt
+                pItem.setId(null);
+                em.persist(pItem);
+            }
+            em.getTransaction().commit();
+            logger.debug("Persisted {} items", batch.size());
+        } catch (RuntimeException e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            em.close();
+        }
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return Collections.emptySet();
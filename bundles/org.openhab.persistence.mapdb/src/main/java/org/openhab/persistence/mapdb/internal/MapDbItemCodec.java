@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary encoding of {@link MapDbItem}s. The common state types are written as a single byte instead of their
+ * class name, all other types are written with their class name like the {@link StateTypeAdapter} does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    // the index of a type is stored in the database, so new types may only be appended
+    private static final List<Class<? extends State>> STATE_TYPES = List.of(DecimalType.class, QuantityType.class,
+            OnOffType.class, OpenClosedType.class, PercentType.class, HSBType.class, StringType.class,
+            DateTimeType.class, UpDownType.class, PointType.class, PlayPauseType.class, RawType.class);
+
+    // type code for states whose class name is stored
+    private static final int OTHER_TYPE = 0;
+
+    private final Logger logger = LoggerFactory.getLogger(MapDbItemCodec.class);
+
+    public byte[] encode(MapDbItem item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            State state = item.getState();
+            int type = STATE_TYPES.indexOf(state.getClass()) + 1;
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            out.writeByte(type);
+            if (type == OTHER_TYPE) {
+                writeString(out, state.getClass().getName());
+            }
+            writeString(out, state.toFullString());
+        } catch (IOException e) {
+            // cannot happen when writing to a byte array
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public @Nullable MapDbItem decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                logger.warn("Couldn't decode item: unknown format version {}", version);
+                return null;
+            }
+            String name = readString(in);
+            long timestamp = in.readLong();
+            int type = in.readUnsignedByte();
+            Class<? extends State> stateType;
+            if (type == OTHER_TYPE) {
+                @SuppressWarnings("unchecked")
+                Class<? extends State> valueType = (Class<? extends State>) Class.forName(readString(in));
+                stateType = valueType;
+            } else {
+                stateType = STATE_TYPES.get(type - 1);
+            }
+            String value = readString(in);
+            State state = TypeParser.parseState(List.of(stateType), value);
+            if (state == null) {
+                logger.warn("Couldn't decode state '{}' of item '{}' as {}", value, name, stateType.getSimpleName());
+                return null;
+            }
+
+            MapDbItem item = new MapDbItem();
+            item.setName(name);
+            item.setState(state);
+            item.setTimestamp(new Date(timestamp));
+            return item;
+        } catch (Exception e) {
+            logger.warn("Couldn't decode item: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -19,14 +19,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,6 +36,7 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
@@ -43,9 +46,12 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,34 +61,54 @@ import com.google.gson.GsonBuilder;
 /**
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
+ * <p>
+ * By default every update is committed immediately. With {@code commitInterval} set to a number of milliseconds,
+ * updates are kept in memory and committed together in this interval, only the latest update of an item is written.
  *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class })
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", configurationPolicy = ConfigurationPolicy.OPTIONAL, //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
+    protected static final String CONFIG_URI = "persistence:mapdb";
+
     private static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
 
     /** holds the local instance of the MapDB database */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    /** values are encoded by {@link MapDbItemCodec}, or JSON strings if stored by an older version */
+    private @NonNullByDefault({}) Map<String, Object> map;
+
+    /** updates which are not written to the database yet, if a commit interval is configured */
+    private final Map<String, MapDbItem> pendingItems = new ConcurrentHashMap<>();
+    /** guards switching to immediate commits, so no update is left in {@link #pendingItems} */
+    private final Object pendingLock = new Object();
+    private @Nullable ScheduledFuture<?> commitJob;
+    private volatile long commitInterval = 0;
+
+    private final MapDbItemCodec codec = new MapDbItemCodec();
 
     private transient Gson mapper = new GsonBuilder().registerTypeHierarchyAdapter(State.class, new StateTypeAdapter())
             .create();
 
     @Activate
-    public void activate() {
+    public void activate(final Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
 
         try {
@@ -135,17 +161,53 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+        modified(config);
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    protected synchronized void modified(final Map<String, Object> config) {
+        long interval = 0;
+        Object value = config.get(CONFIG_COMMIT_INTERVAL);
+        if (value != null && !value.toString().isBlank()) {
+            try {
+                interval = Long.parseLong(value.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring illegal commit interval '{}'", value);
+            }
+        }
+
+        stopCommitJob();
+        commitInterval = Math.max(interval, 0);
+        if (commitInterval > 0 && db != null) {
+            commitJob = scheduler.scheduleWithFixedDelay(this::commitPendingItems, commitInterval, commitInterval,
+                    TimeUnit.MILLISECONDS);
+            logger.debug("Committing MapDB updates every {} ms", commitInterval);
+        }
+    }
+
     @Deactivate
-    public void deactivate() {
+    public synchronized void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        stopCommitJob();
         if (db != null) {
             db.close();
         }
     }
 
+    private void stopCommitJob() {
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
+        synchronized (pendingLock) {
+            commitInterval = 0;
+        }
+        // write the updates which are still pending, later updates are committed immediately
+        commitPendingItems();
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -158,8 +220,12 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        Map<String, PersistenceItemInfo> itemInfo = new HashMap<>();
+        for (Object value : map.values()) {
+            deserialize(value).ifPresent(item -> itemInfo.put(item.getName(), item));
+        }
+        itemInfo.putAll(pendingItems);
+        return Set.copyOf(itemInfo.values());
     }
 
     @Override
@@ -182,26 +248,40 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setName(localAlias);
         mItem.setState(state);
         mItem.setTimestamp(new Date());
-        String json = serialize(mItem);
-        map.put(localAlias, json);
-        commit();
-        if (logger.isDebugEnabled()) {
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+        synchronized (pendingLock) {
+            if (commitInterval > 0) {
+                // only the latest update of an item is written with the next commit
+                pendingItems.put(localAlias, mItem);
+                logger.debug("Queued '{}' with state '{}' for MapDB database", localAlias, state);
+                return;
+            }
         }
+        map.put(localAlias, codec.encode(mItem));
+        commit();
+        logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        MapDbItem pendingItem = pendingItems.get(filter.getItemName());
+        if (pendingItem != null) {
+            return List.of(pendingItem);
+        }
+        Object value = map.get(filter.getItemName());
+        if (value == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(value);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private Optional<MapDbItem> deserialize(Object value) {
+        if (value instanceof byte[]) {
+            MapDbItem item = codec.decode((byte[]) value);
+            return item == null || !item.isValid() ? Optional.empty() : Optional.of(item);
+        }
+        // written as JSON by an older version, replaced with the binary encoding on the next update
+        return deserialize(value.toString());
     }
 
     @SuppressWarnings("null")
@@ -218,11 +298,27 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     }
 
     private void commit() {
-        threadPool.submit(() -> db.commit());
+        scheduler.submit(() -> db.commit());
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
+    private synchronized void commitPendingItems() {
+        if (pendingItems.isEmpty() || db == null || db.isClosed()) {
+            return;
+        }
+        int count = 0;
+        try {
+            for (Map.Entry<String, MapDbItem> entry : pendingItems.entrySet()) {
+                map.put(entry.getKey(), codec.encode(entry.getValue()));
+                // keep an update which arrived in the meantime for the next commit
+                pendingItems.remove(entry.getKey(), entry.getValue());
+                count++;
+            }
+            db.commit();
+            logger.debug("Committed {} updates to MapDB database", count);
+        } catch (RuntimeException e) {
+            // an unhandled exception would stop the scheduled commits
+            logger.warn("Failed to commit {} updates to MapDB database: {}", count, e.getMessage());
+        }
     }
 
     @Override
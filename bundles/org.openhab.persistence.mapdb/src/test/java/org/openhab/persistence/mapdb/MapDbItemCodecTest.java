@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringListType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+import org.openhab.persistence.mapdb.internal.MapDbItem;
+import org.openhab.persistence.mapdb.internal.MapDbItemCodec;
+
+/**
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+    private final MapDbItemCodec codec = new MapDbItemCodec();
+
+    @ParameterizedTest
+    @MethodSource
+    public void encodeDecodeRoundtripShouldRecreateTheEncodedItem(State state) {
+        MapDbItem item = new MapDbItem();
+        item.setName("Item_ÄÖÜ");
+        item.setState(state);
+        item.setTimestamp(new Date(1234567890123L));
+
+        MapDbItem actual = Objects.requireNonNull(codec.decode(codec.encode(item)));
+        assertThat(actual.getName(), is(equalTo(item.getName())));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getTimestamp(), is(equalTo(item.getTimestamp())));
+    }
+
+    public static Stream<State> encodeDecodeRoundtripShouldRecreateTheEncodedItem() {
+        return Stream.of(DecimalType.ZERO, new DecimalType(1.123), HSBType.fromRGB(11, 22, 33), OnOffType.ON,
+                PercentType.valueOf("99.999"), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                StringType.valueOf(""), StringType.valueOf("@@@###   @@@"), new StringListType(List.of("a", "b")));
+    }
+
+    @Test
+    public void decodeShouldReturnNullForInvalidData() {
+        assertThat(codec.decode(new byte[] { 1, 0, 0 }), is(nullValue()));
+        assertThat(codec.decode(new byte[0]), is(nullValue()));
+    }
+}
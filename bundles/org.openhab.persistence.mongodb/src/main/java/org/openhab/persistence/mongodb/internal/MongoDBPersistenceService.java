@@ -50,6 +50,8 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.batch.BatchWriter;
+import org.openhab.persistence.batch.BatchWriter.PartialWriteException;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -60,6 +62,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
 import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
@@ -82,6 +87,11 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
     private static final String FIELD_TIMESTAMP = "timestamp";
     private static final String FIELD_VALUE = "value";
 
+    private static final int DEFAULT_BATCH_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_BATCH_INTERVAL = 1000;
+    private static final int BATCH_MAX_RETRIES = 3;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private @NonNullByDefault({}) String url;
@@ -95,6 +105,8 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
     private @NonNullByDefault({}) MongoClient cl;
     private @NonNullByDefault({}) DBCollection mongoCollection;
 
+    private @Nullable BatchWriter<DBObject> batchWriter;
+
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
@@ -125,6 +137,14 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
         disconnectFromDatabase();
         connectToDatabase();
 
+        int batchSize = getIntConfig(config, "batchSize", 0);
+        if (batchSize > 0) {
+            batchWriter = new BatchWriter<>("mongodbPersistenceService", this::insertBatch, batchSize,
+                    getIntConfig(config, "batchQueueSize", DEFAULT_BATCH_QUEUE_SIZE),
+                    getIntConfig(config, "batchInterval", DEFAULT_BATCH_INTERVAL), getOverflowPolicy(config),
+                    BATCH_MAX_RETRIES);
+        }
+
         // connection has been established... initialization completed!
         initialized = true;
     }
@@ -132,9 +152,39 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        BatchWriter<DBObject> writer = batchWriter;
+        if (writer != null) {
+            writer.stop();
+            batchWriter = null;
+        }
         disconnectFromDatabase();
     }
 
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for mongodb:{}, using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private BatchWriter.OverflowPolicy getOverflowPolicy(Map<String, Object> config) {
+        Object value = config.get("batchOverflowPolicy");
+        if (value != null && !value.toString().isBlank()) {
+            try {
+                return BatchWriter.OverflowPolicy.valueOf(value.toString().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid value '{}' for mongodb:batchOverflowPolicy, using FLUSH", value);
+            }
+        }
+        return BatchWriter.OverflowPolicy.FLUSH;
+    }
+
     @Override
     public String getId() {
         return "mongodb";
@@ -181,11 +231,51 @@ public class MongoDBPersistenceService implements QueryablePersistenceService {
         obj.put(FIELD_REALNAME, realName);
         obj.put(FIELD_TIMESTAMP, new Date());
         obj.put(FIELD_VALUE, value);
+
+        BatchWriter<DBObject> writer = batchWriter;
+        if (writer != null) {
+            if (writer.add(obj)) {
+                logger.debug("MongoDB buffered {}={}", name, value);
+            }
+            return;
+        }
         this.mongoCollection.save(obj);
 
         logger.debug("MongoDB save {}={}", name, value);
     }
 
+    /**
+     * Inserts the buffered documents with a single unordered bulk insert, so a failed document does not stop the
+     * following ones. The documents keep their id when they are retried, so a duplicate key error means the document
+     * was already inserted by a previous attempt.
+     */
+    private void insertBatch(List<DBObject> batch) throws PartialWriteException {
+        if (!isConnected()) {
+            connectToDatabase();
+        }
+        BulkWriteOperation bulk = this.mongoCollection.initializeUnorderedBulkOperation();
+        for (DBObject obj : batch) {
+            bulk.insert(obj);
+        }
+        try {
+            bulk.execute();
+        } catch (BulkWriteException e) {
+            if (e.getWriteErrors().isEmpty()) {
+                throw e;
+            }
+            List<DBObject> failed = new ArrayList<>();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                    failed.add(batch.get(error.getIndex()));
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new PartialWriteException(e.getMessage(), failed);
+            }
+        }
+        logger.debug("MongoDB inserted {} documents", batch.size());
+    }
+
     private Object convertValue(State state) {
         Object value;
         if (state instanceof PercentType) {
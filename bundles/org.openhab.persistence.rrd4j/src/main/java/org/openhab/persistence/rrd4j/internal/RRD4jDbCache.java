@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a limited number of {@link RrdDb} instances open, so that the database files do not have to be opened and
+ * their headers parsed for every store and query. The least recently used database is closed if the limit is
+ * exceeded.
+ * <p>
+ * Every database has its own lock: accesses to the same database are serialized, accesses to different databases
+ * can run in parallel. An evicted database stays in the cache until it is closed, so it is never opened a second time
+ * while the old instance is still open.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDbCache {
+
+    @FunctionalInterface
+    public interface DbOpener {
+        @Nullable
+        RrdDb open(String name) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface DbAction<T> {
+        T apply(RrdDb db) throws IOException;
+    }
+
+    /**
+     * A cached database, also used as the lock of the database.
+     */
+    private static class Entry {
+        private final String name;
+        // guarded by the entry
+        private @Nullable RrdDb db;
+        private boolean closed = false;
+        // guarded by the map of entries
+        private boolean evicted = false;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDbCache.class);
+
+    private final int capacity;
+    // the lock of an entry is always acquired before the lock of this map
+    private final Map<String, Entry> entries;
+
+    public RRD4jDbCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true);
+    }
+
+    /**
+     * Runs the action with the open database, opening it if necessary.
+     *
+     * @param name the name of the database
+     * @param opener opens the database if it is not open yet
+     * @param action the action to run while holding the lock of this database
+     * @return the result of the action or null if the database could not be opened
+     * @throws IOException if the action fails
+     */
+    public <T> @Nullable T execute(String name, DbOpener opener, DbAction<T> action) throws IOException {
+        try {
+            while (true) {
+                Entry entry = entryFor(name);
+                synchronized (entry) {
+                    if (entry.closed) {
+                        // evicted while waiting for the lock, the next entry opens the database again
+                        continue;
+                    }
+                    RrdDb db = entry.db;
+                    if (db == null || db.isClosed()) {
+                        db = opener.open(name);
+                        if (db == null) {
+                            close(entry);
+                            return null;
+                        }
+                        entry.db = db;
+                    }
+                    return action.apply(db);
+                }
+            }
+        } finally {
+            // closed outside of our own lock, so that two threads evicting each other's database cannot deadlock
+            for (Entry entry : selectEvicted()) {
+                close(entry);
+            }
+        }
+    }
+
+    /**
+     * Closes all open databases.
+     */
+    public void closeAll() {
+        List<Entry> open;
+        synchronized (entries) {
+            open = new ArrayList<>(entries.values());
+            open.forEach(entry -> entry.evicted = true);
+        }
+        open.forEach(this::close);
+    }
+
+    /**
+     * For testing.
+     *
+     * @return number of cached databases, including the ones which are being closed
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry entryFor(String name) {
+        synchronized (entries) {
+            return entries.computeIfAbsent(name, Entry::new);
+        }
+    }
+
+    private List<Entry> selectEvicted() {
+        synchronized (entries) {
+            int open = (int) entries.values().stream().filter(entry -> !entry.evicted).count();
+            if (open <= capacity) {
+                return List.of();
+            }
+            List<Entry> evicted = new ArrayList<>();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (open > capacity && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                if (!eldest.evicted) {
+                    eldest.evicted = true;
+                    evicted.add(eldest);
+                    open--;
+                }
+            }
+            return evicted;
+        }
+    }
+
+    private void close(Entry entry) {
+        synchronized (entry) {
+            if (entry.closed) {
+                return;
+            }
+            RrdDb db = entry.db;
+            if (db != null) {
+                try {
+                    db.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database '{}': {}", entry.name, e.getMessage());
+                }
+                entry.db = null;
+            }
+            entry.closed = true;
+            // removed only after closing, so that nobody opens the database while it is still open
+            synchronized (entries) {
+                entries.remove(entry.name, entry);
+            }
+        }
+    }
+}
@@ -18,7 +18,6 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -67,14 +66,18 @@ import org.openhab.core.types.State;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,14 +92,21 @@ import org.slf4j.LoggerFactory;
  * @author Karel Goderis - remove TimerThread dependency
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.rrd4j", configurationPolicy = ConfigurationPolicy.OPTIONAL)
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        RRD4jPersistenceService.class }, configurationPid = "org.openhab.rrd4j", configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
 
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+    private static final String BACKEND_NIO = "NIO";
+    private static final String BACKEND_FILE = "FILE";
+    // seconds between two syncs of the memory mapped files to disk
+    private static final int DEFAULT_SYNC_PERIOD = 300;
+
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
@@ -111,7 +121,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
 
-    private final Map<String, ScheduledFuture<?>> scheduledJobs = new HashMap<>();
+    // maximum number of rrd4j database files which are kept open
+    private static final int MAX_OPEN_DBS = 200;
+
+    private final Map<String, ScheduledFuture<?>> scheduledJobs = new ConcurrentHashMap<>();
+
+    private final RRD4jDbCache dbCache = new RRD4jDbCache(MAX_OPEN_DBS);
+
+    private volatile RrdBackendFactory backendFactory = new RrdNioBackendFactory(DEFAULT_SYNC_PERIOD, scheduler);
 
     protected final ItemRegistry itemRegistry;
 
@@ -131,95 +148,97 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     @Override
-    public synchronized void store(final Item item, @Nullable final String alias) {
+    public void store(final Item item, @Nullable final String alias) {
         if (!isSupportedItemType(item)) {
             logger.trace("Ignoring item '{}' since its type {} is not supported", item.getName(), item.getType());
             return;
         }
         final String name = alias == null ? item.getName() : alias;
-        RrdDb db = getDB(name);
-        if (db != null) {
-            ConsolFun function = getConsolidationFunction(db);
-            long now = System.currentTimeMillis() / 1000;
-            if (function != ConsolFun.AVERAGE) {
-                try {
-                    // we store the last value again, so that the value change
-                    // in the database is not interpolated, but
-                    // happens right at this spot
-                    if (now - 1 > db.getLastUpdateTime()) {
-                        // only do it if there is not already a value
-                        double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                        if (!Double.isNaN(lastValue)) {
-                            Sample sample = db.createSample();
-                            sample.setTime(now - 1);
-                            sample.setValue(DATASOURCE_STATE, lastValue);
-                            sample.update();
-                            logger.debug("Stored '{}' as value '{}' in rrd4j database (again)", name, lastValue);
-                        }
+        try {
+            dbCache.execute(name, this::getDB, db -> {
+                store(db, item, name);
+                return true;
+            });
+        } catch (IOException e) {
+            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+        }
+    }
+
+    private void store(RrdDb db, final Item item, final String name) {
+        ConsolFun function = getConsolidationFunction(db);
+        long now = System.currentTimeMillis() / 1000;
+        if (function != ConsolFun.AVERAGE) {
+            try {
+                // we store the last value again, so that the value change
+                // in the database is not interpolated, but
+                // happens right at this spot
+                if (now - 1 > db.getLastUpdateTime()) {
+                    // only do it if there is not already a value
+                    double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
+                    if (!Double.isNaN(lastValue)) {
+                        Sample sample = db.createSample();
+                        sample.setTime(now - 1);
+                        sample.setValue(DATASOURCE_STATE, lastValue);
+                        sample.update();
+                        logger.debug("Stored '{}' as value '{}' in rrd4j database (again)", name, lastValue);
                     }
-                } catch (IOException e) {
-                    logger.debug("Error storing last value (again): {}", e.getMessage());
                 }
+            } catch (IOException e) {
+                logger.debug("Error storing last value (again): {}", e.getMessage());
             }
-            try {
-                Sample sample = db.createSample();
-                sample.setTime(now);
-
-                Double value = null;
-
-                if (item instanceof NumberItem && item.getState() instanceof QuantityType) {
-                    NumberItem nItem = (NumberItem) item;
-                    QuantityType<?> qState = (QuantityType<?>) item.getState();
-                    Unit<? extends Quantity<?>> unit = nItem.getUnit();
-                    if (unit != null) {
-                        QuantityType<?> convertedState = qState.toUnit(unit);
-                        if (convertedState != null) {
-                            value = convertedState.doubleValue();
-                        } else {
-                            logger.warn(
-                                    "Failed to convert state '{}' to unit '{}'. Please check your item definition for correctness.",
-                                    qState, unit);
-                        }
+        }
+        try {
+            Sample sample = db.createSample();
+            sample.setTime(now);
+
+            Double value = null;
+
+            if (item instanceof NumberItem && item.getState() instanceof QuantityType) {
+                NumberItem nItem = (NumberItem) item;
+                QuantityType<?> qState = (QuantityType<?>) item.getState();
+                Unit<? extends Quantity<?>> unit = nItem.getUnit();
+                if (unit != null) {
+                    QuantityType<?> convertedState = qState.toUnit(unit);
+                    if (convertedState != null) {
+                        value = convertedState.doubleValue();
                     } else {
-                        value = qState.doubleValue();
+                        logger.warn(
+                                "Failed to convert state '{}' to unit '{}'. Please check your item definition for correctness.",
+                                qState, unit);
                     }
                 } else {
-                    DecimalType state = item.getStateAs(DecimalType.class);
-                    if (state != null) {
-                        value = state.toBigDecimal().doubleValue();
-                    }
+                    value = qState.doubleValue();
                 }
-                if (value != null) {
-                    if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) { // counter values must be
-                                                                                          // adjusted by stepsize
-                        value = value * db.getRrdDef().getStep();
-                    }
-                    sample.setValue(DATASOURCE_STATE, value);
-                    sample.update();
-                    logger.debug("Stored '{}' as value '{}' in rrd4j database", name, value);
+            } else {
+                DecimalType state = item.getStateAs(DecimalType.class);
+                if (state != null) {
+                    value = state.toBigDecimal().doubleValue();
                 }
-            } catch (IllegalArgumentException e) {
-                String message = e.getMessage();
-                if (message != null && message.contains("at least one second step is required")) {
-                    // we try to store the value one second later
-                    ScheduledFuture<?> job = scheduledJobs.get(name);
-                    if (job != null) {
-                        job.cancel(true);
-                        scheduledJobs.remove(name);
-                    }
-                    job = scheduler.schedule(() -> store(item, name), 1, TimeUnit.SECONDS);
-                    scheduledJobs.put(name, job);
-                } else {
-                    logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            }
+            if (value != null) {
+                if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) { // counter values must be
+                                                                                      // adjusted by stepsize
+                    value = value * db.getRrdDef().getStep();
                 }
-            } catch (Exception e) {
-                logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+                sample.setValue(DATASOURCE_STATE, value);
+                sample.update();
+                logger.debug("Stored '{}' as value '{}' in rrd4j database", name, value);
             }
-            try {
-                db.close();
-            } catch (IOException e) {
-                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+            if (message != null && message.contains("at least one second step is required")) {
+                // we try to store the value one second later
+                ScheduledFuture<?> job = scheduledJobs.remove(name);
+                if (job != null) {
+                    job.cancel(true);
+                }
+                job = scheduler.schedule(() -> store(item, name), 1, TimeUnit.SECONDS);
+                scheduledJobs.put(name, job);
+            } else {
+                logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
             }
+        } catch (Exception e) {
+            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
     }
 
@@ -231,12 +250,21 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         String itemName = filter.getItemName();
-
-        RrdDb db = getDB(itemName);
-        if (db == null) {
-            logger.debug("Could not find item '{}' in rrd4j database", itemName);
+        try {
+            List<HistoricItem> items = dbCache.execute(itemName, this::getDB, db -> query(db, filter));
+            if (items == null) {
+                logger.debug("Could not find item '{}' in rrd4j database", itemName);
+                return List.of();
+            }
+            return items;
+        } catch (IOException e) {
+            logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
             return List.of();
         }
+    }
+
+    private List<HistoricItem> query(RrdDb db, FilterCriteria filter) throws IOException {
+        String itemName = filter.getItemName();
 
         Item item = null;
         Unit<?> unit = null;
@@ -255,57 +283,52 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         long end = filter.getEndDate() == null ? System.currentTimeMillis() / 1000
                 : filter.getEndDate().toInstant().getEpochSecond();
 
-        try {
-            if (filter.getBeginDate() == null) {
-                // as rrd goes back for years and gets more and more
-                // inaccurate, we only support descending order
-                // and a single return value
-                // if there is no begin date is given - this case is
-                // required specifically for the historicState()
-                // query, which we want to support
-                if (filter.getOrdering() == Ordering.DESCENDING && filter.getPageSize() == 1
-                        && filter.getPageNumber() == 0) {
-                    if (filter.getEndDate() == null) {
-                        // we are asked only for the most recent value!
-                        double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                        if (!Double.isNaN(lastValue)) {
-                            HistoricItem rrd4jItem = new RRD4jItem(itemName, mapToState(lastValue, item, unit),
-                                    ZonedDateTime.ofInstant(Instant.ofEpochMilli(db.getLastArchiveUpdateTime() * 1000),
-                                            ZoneId.systemDefault()));
-                            return List.of(rrd4jItem);
-                        } else {
-                            return List.of();
-                        }
+        if (filter.getBeginDate() == null) {
+            // as rrd goes back for years and gets more and more
+            // inaccurate, we only support descending order
+            // and a single return value
+            // if there is no begin date is given - this case is
+            // required specifically for the historicState()
+            // query, which we want to support
+            if (filter.getOrdering() == Ordering.DESCENDING && filter.getPageSize() == 1
+                    && filter.getPageNumber() == 0) {
+                if (filter.getEndDate() == null) {
+                    // we are asked only for the most recent value!
+                    double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
+                    if (!Double.isNaN(lastValue)) {
+                        HistoricItem rrd4jItem = new RRD4jItem(itemName, mapToState(lastValue, item, unit),
+                                ZonedDateTime.ofInstant(Instant.ofEpochMilli(db.getLastArchiveUpdateTime() * 1000),
+                                        ZoneId.systemDefault()));
+                        return List.of(rrd4jItem);
                     } else {
-                        start = end;
+                        return List.of();
                     }
                 } else {
-                    throw new UnsupportedOperationException("rrd4j does not allow querys without a begin date, "
-                            + "unless order is descending and a single value is requested");
+                    start = end;
                 }
             } else {
-                start = filter.getBeginDate().toInstant().getEpochSecond();
+                throw new UnsupportedOperationException("rrd4j does not allow querys without a begin date, "
+                        + "unless order is descending and a single value is requested");
             }
+        } else {
+            start = filter.getBeginDate().toInstant().getEpochSecond();
+        }
 
-            FetchRequest request = db.createFetchRequest(getConsolidationFunction(db), start, end, 1);
-            FetchData result = request.fetchData();
-
-            List<HistoricItem> items = new ArrayList<>();
-            long ts = result.getFirstTimestamp();
-            long step = result.getRowCount() > 1 ? result.getStep() : 0;
-            for (double value : result.getValues(DATASOURCE_STATE)) {
-                if (!Double.isNaN(value) && (((ts >= start) && (ts <= end)) || (start == end))) {
-                    RRD4jItem rrd4jItem = new RRD4jItem(itemName, mapToState(value, item, unit),
-                            ZonedDateTime.ofInstant(Instant.ofEpochMilli(ts * 1000), ZoneId.systemDefault()));
-                    items.add(rrd4jItem);
-                }
-                ts += step;
+        FetchRequest request = db.createFetchRequest(getConsolidationFunction(db), start, end, 1);
+        FetchData result = request.fetchData();
+
+        List<HistoricItem> items = new ArrayList<>();
+        long ts = result.getFirstTimestamp();
+        long step = result.getRowCount() > 1 ? result.getStep() : 0;
+        for (double value : result.getValues(DATASOURCE_STATE)) {
+            if (!Double.isNaN(value) && (((ts >= start) && (ts <= end)) || (start == end))) {
+                RRD4jItem rrd4jItem = new RRD4jItem(itemName, mapToState(value, item, unit),
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli(ts * 1000), ZoneId.systemDefault()));
+                items.add(rrd4jItem);
             }
-            return items;
-        } catch (IOException e) {
-            logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
-            return List.of();
+            ts += step;
         }
+        return items;
     }
 
     @Override
@@ -313,13 +336,30 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias) {
+    /**
+     * Reads from the database of an item, the database is not created if it does not exist.
+     *
+     * @param name the name of the item
+     * @param reader reads from the open database
+     * @return the result of the reader or null if there is no database for the item
+     * @throws IOException if reading from the database fails
+     */
+    public <T> @Nullable T readDB(String name, RRD4jDbCache.DbAction<T> reader) throws IOException {
+        return dbCache.execute(name, this::getExistingDB, reader);
+    }
+
+    private @Nullable RrdDb getExistingDB(String alias) throws IOException {
+        File file = new File(DB_FOLDER + File.separator + alias + ".rrd");
+        return file.exists() ? new RrdDb(file.getAbsolutePath(), backendFactory) : null;
+    }
+
+    protected @Nullable RrdDb getDB(String alias) {
         RrdDb db = null;
         File file = new File(DB_FOLDER + File.separator + alias + ".rrd");
         try {
             if (file.exists()) {
                 // recreate the RrdDb instance from the file
-                db = new RrdDb(file.getAbsolutePath());
+                db = new RrdDb(file.getAbsolutePath(), backendFactory);
             } else {
                 File folder = new File(DB_FOLDER);
                 if (!folder.exists()) {
@@ -328,7 +368,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 RrdDef rrdDef = getRrdDef(alias, file);
                 if (rrdDef != null) {
                     // create a new database file
-                    db = new RrdDb(rrdDef);
+                    db = new RrdDb(rrdDef, backendFactory);
                 } else {
                     logger.debug(
                             "Did not create rrd4j database for item '{}' since no rrd definition could be determined. This is likely due to an unsupported item type.",
@@ -443,8 +483,20 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         modified(config);
     }
 
+    @Deactivate
+    protected void deactivate() {
+        scheduledJobs.values().forEach(job -> job.cancel(true));
+        scheduledJobs.clear();
+        dbCache.closeAll();
+        scheduler.shutdown();
+    }
+
     @Modified
     protected void modified(final Map<String, Object> config) {
+        // open databases have to be reopened with the configured backend
+        dbCache.closeAll();
+        backendFactory = createBackendFactory(config);
+
         // clean existing definitions
         rrdDefs.clear();
 
@@ -501,6 +553,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            if (key.equals(CONFIG_BACKEND) || key.equals(CONFIG_SYNC_PERIOD)) {
+                // already handled by createBackendFactory
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -554,6 +611,38 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private RrdBackendFactory createBackendFactory(final Map<String, Object> config) {
+        int syncPeriod = DEFAULT_SYNC_PERIOD;
+        Object syncPeriodValue = config.get(CONFIG_SYNC_PERIOD);
+        if (syncPeriodValue != null && !syncPeriodValue.toString().isBlank()) {
+            try {
+                syncPeriod = Integer.parseInt(syncPeriodValue.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring illegal sync period '{}', using {} seconds", syncPeriodValue,
+                        DEFAULT_SYNC_PERIOD);
+            }
+            if (syncPeriod <= 0) {
+                logger.warn("Ignoring illegal sync period '{}', using {} seconds", syncPeriodValue,
+                        DEFAULT_SYNC_PERIOD);
+                syncPeriod = DEFAULT_SYNC_PERIOD;
+            }
+        }
+
+        Object backendValue = config.get(CONFIG_BACKEND);
+        String backend = backendValue == null || backendValue.toString().isBlank() ? BACKEND_NIO
+                : backendValue.toString().trim().toUpperCase();
+        if (BACKEND_FILE.equals(backend)) {
+            logger.debug("Using rrd4j file backend");
+            return new RrdRandomAccessFileBackendFactory();
+        }
+        if (!BACKEND_NIO.equals(backend)) {
+            logger.warn("Unknown rrd4j backend '{}', using {}", backendValue, BACKEND_NIO);
+        }
+        logger.debug("Using rrd4j NIO backend with a sync period of {} seconds", syncPeriod);
+        // the sync tasks run on our own scheduler, so rrd4j does not start a thread pool of its own
+        return new RrdNioBackendFactory(syncPeriod, scheduler);
+    }
+
     private class RrdArchiveDef {
         public @Nullable ConsolFun fcn;
         public double xff;
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.ItemNotFoundException;
+
+/**
+ * Cache for rendered charts. A chart is kept until the end of the current rrd step, as the databases cannot contain
+ * new values before. Concurrent requests for the same chart wait for a single rendering.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartCache {
+
+    /**
+     * An encoded chart and the time in milliseconds until it is valid.
+     */
+    public static class CachedChart {
+        private final byte[] data;
+        private final long expiresAt;
+
+        public CachedChart(byte[] data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChartRenderer {
+        CachedChart render() throws ItemNotFoundException, IOException;
+    }
+
+    private final int maxEntries;
+    private final Map<String, CompletableFuture<CachedChart>> charts = new ConcurrentHashMap<>();
+
+    public RRD4jChartCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached chart or renders it, if it is not cached or expired.
+     *
+     * @param key identifies the chart
+     * @param renderer renders and encodes the chart
+     * @return the encoded chart
+     * @throws ItemNotFoundException if an item of the chart does not exist
+     * @throws IOException if the chart could not be rendered
+     */
+    public byte[] get(String key, ChartRenderer renderer) throws ItemNotFoundException, IOException {
+        CompletableFuture<CachedChart> own = new CompletableFuture<>();
+        CompletableFuture<CachedChart> existing;
+        while ((existing = charts.putIfAbsent(key, own)) != null) {
+            if (!isExpired(existing, System.currentTimeMillis())) {
+                // cached or currently rendered by another request
+                return await(existing).getData();
+            }
+            if (charts.replace(key, existing, own)) {
+                break;
+            }
+        }
+        return render(key, own, renderer).getData();
+    }
+
+    /**
+     * Removes all charts.
+     */
+    public void clear() {
+        charts.clear();
+    }
+
+    private CachedChart render(String key, CompletableFuture<CachedChart> future, ChartRenderer renderer)
+            throws ItemNotFoundException, IOException {
+        try {
+            CachedChart chart = renderer.render();
+            future.complete(chart);
+            removeExpired();
+            return chart;
+        } catch (ItemNotFoundException | IOException | RuntimeException e) {
+            // failures are not cached, waiting requests get the same failure
+            charts.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private CachedChart await(CompletableFuture<CachedChart> future) throws ItemNotFoundException, IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ItemNotFoundException) {
+                throw (ItemNotFoundException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isExpired(CompletableFuture<CachedChart> future, long now) {
+        return future.isDone() && (future.isCompletedExceptionally() || future.join().isExpired(now));
+    }
+
+    private void removeExpired() {
+        if (charts.size() <= maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        charts.values().removeIf(future -> isExpired(future, now));
+        // still too many charts requested with different parameters, drop arbitrary ones
+        Iterator<Map.Entry<String, CompletableFuture<CachedChart>>> iterator = charts.entrySet().iterator();
+        while (charts.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().getValue().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -15,7 +15,7 @@ package org.openhab.persistence.rrd4j.internal.charts;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.*;
 
@@ -33,6 +33,7 @@ import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.ui.chart.ChartProvider;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.CachedChart;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -40,7 +41,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
-import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdDef;
 import org.rrd4j.graph.RrdGraph;
 import org.rrd4j.graph.RrdGraphDef;
 import org.slf4j.Logger;
@@ -56,6 +58,7 @@ import org.slf4j.LoggerFactory;
  * <li>items: A comma separated list of item names to display
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
+ * Rendered charts are cached until the end of the current step of the shown databases.
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
@@ -79,6 +82,12 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
     protected static final Map<String, Long> PERIODS = new HashMap<>();
 
+    // step in seconds used for the chart cache if the step of the databases is not known
+    private static final long DEFAULT_STEP = 60;
+
+    // maximum number of rendered charts which are cached
+    private static final int MAX_CACHED_CHARTS = 50;
+
     static {
         PERIODS.put("h", -3600000L);
         PERIODS.put("4h", -14400000L);
@@ -100,6 +109,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Reference
     protected ItemUIRegistry itemUIRegistry;
 
+    @Reference
+    protected RRD4jPersistenceService persistenceService;
+
+    private final RRD4jChartCache chartCache = new RRD4jChartCache(MAX_CACHED_CHARTS);
+
     @Activate
     protected void activate() {
         try {
@@ -115,6 +129,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        chartCache.clear();
     }
 
     @Override
@@ -142,10 +157,24 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
         // Set the content type to that provided by the chart provider
         res.setContentType("image/" + getChartType());
+        String items = req.getParameter("items");
+        String groups = req.getParameter("groups");
+        String key = String.join("|", String.valueOf(items), String.valueOf(groups), String.valueOf(period),
+                Integer.toString(width), Integer.toString(height));
+        final int chartWidth = width;
+        final int chartHeight = height;
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
-                    req.getParameter("groups"), null, null);
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
+            byte[] chart = chartCache.get(key, () -> {
+                RenderedChart rendered = renderChart(timeBegin, timeEnd, chartHeight, chartWidth, items, groups);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(rendered.image, getChartType().toString(), out);
+                // the databases do not change before the end of the current step
+                long step = rendered.step * 1000;
+                long expiresAt = (System.currentTimeMillis() / step + 1) * step;
+                return new CachedChart(out.toByteArray(), expiresAt);
+            });
+            res.setContentLength(chart.length);
+            res.getOutputStream().write(chart);
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart.");
         } catch (IllegalArgumentException e) {
@@ -157,38 +186,48 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * Adds a line for the item to the graph definition.
      * The color of the line is determined by the counter, it simply picks the according index from LINECOLORS (and
      * rolls over if necessary).
+     * The data is fetched from the database opened by the persistence service, items without a database are skipped.
      *
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @param start start of the chart in seconds since the epoch
+     * @param end end of the chart in seconds since the epoch
+     * @return the step of the item's database in seconds
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, int counter) {
+    protected long addLine(RrdGraphDef graphDef, Item item, int counter, long start, long end) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
-        String rrdName = RRD4jPersistenceService.DB_FOLDER + File.separator + item.getName() + ".rrd";
-        ConsolFun consolFun;
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
+        ItemData data = null;
         try {
-            RrdDb db = new RrdDb(rrdName);
-            consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
-            db.close();
+            data = persistenceService.readDB(item.getName(), db -> {
+                RrdDef rrdDef = db.getRrdDef();
+                ConsolFun consolFun = rrdDef.getArcDefs()[0].getConsolFun();
+                return new ItemData(db.createFetchRequest(consolFun, start, end).fetchData(), rrdDef.getStep());
+            });
         } catch (IOException e) {
-            consolFun = ConsolFun.MAX;
+            logger.debug("Could not read rrd4j database of item '{}': {}", item.getName(), e.getMessage());
+        }
+        if (data == null) {
+            logger.debug("No rrd4j data for item '{}', it is not shown in the chart", item.getName());
+            return DEFAULT_STEP;
         }
         if (item instanceof NumberItem) {
             // we only draw a line
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), "state", data.fetchData);
             graphDef.line(Integer.toString(counter), color, label, 2);
         } else {
             // we draw a line and fill the area beneath it with a transparent color
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), "state", data.fetchData);
             Color areaColor = AREACOLORS[counter % LINECOLORS.length];
 
             graphDef.area(Integer.toString(counter), areaColor);
             graphDef.line(Integer.toString(counter), color, label, 2);
         }
+        return data.step;
     }
 
     @Override
@@ -220,27 +259,35 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Override
     public BufferedImage createChart(String service, String theme, Date startTime, Date endTime, int height, int width,
             String items, String groups, Integer dpi, Boolean legend) throws ItemNotFoundException {
+        return renderChart(startTime, endTime, height, width, items, groups).image;
+    }
+
+    private RenderedChart renderChart(Date startTime, Date endTime, int height, int width, String items, String groups)
+            throws ItemNotFoundException {
         RrdGraphDef graphDef = new RrdGraphDef();
 
-        long period = (startTime.getTime() - endTime.getTime()) / 1000;
+        long start = startTime.getTime() / 1000;
+        long end = endTime.getTime() / 1000;
 
         graphDef.setWidth(width);
         graphDef.setHeight(height);
         graphDef.setAntiAliasing(true);
         graphDef.setImageFormat("PNG");
-        graphDef.setStartTime(period);
+        graphDef.setStartTime(start);
+        graphDef.setEndTime(end);
         graphDef.setTextAntiAliasing(true);
         graphDef.setLargeFont(new Font("SansSerif", Font.PLAIN, 15));
         graphDef.setSmallFont(new Font("SansSerif", Font.PLAIN, 11));
 
         int seriesCounter = 0;
+        long step = Long.MAX_VALUE;
 
         // Loop through all the items
         if (items != null) {
             String[] itemNames = items.split(",");
             for (String itemName : itemNames) {
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, seriesCounter++);
+                step = Math.min(step, addLine(graphDef, item, seriesCounter++, start, end));
             }
         }
 
@@ -252,7 +299,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem) {
                     GroupItem groupItem = (GroupItem) item;
                     for (Item member : groupItem.getMembers()) {
-                        addLine(graphDef, member, seriesCounter++);
+                        step = Math.min(step, addLine(graphDef, member, seriesCounter++, start, end));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -268,16 +315,42 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                     graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
             graph.render(bi.getGraphics());
 
-            return bi;
+            return new RenderedChart(bi, seriesCounter > 0 ? Math.max(step, 1) : DEFAULT_STEP);
         } catch (IOException e) {
             logger.error("Error generating graph.", e);
         }
 
-        return null;
+        return new RenderedChart(null, DEFAULT_STEP);
     }
 
     @Override
     public ImageType getChartType() {
         return ImageType.png;
     }
+
+    /**
+     * The data of an item fetched for a chart and the step of its database.
+     */
+    private static class ItemData {
+        private final FetchData fetchData;
+        private final long step;
+
+        private ItemData(FetchData fetchData, long step) {
+            this.fetchData = fetchData;
+            this.step = step;
+        }
+    }
+
+    /**
+     * A rendered chart and the smallest step of the databases shown in it.
+     */
+    private static class RenderedChart {
+        private final BufferedImage image;
+        private final long step;
+
+        private RenderedChart(BufferedImage image, long step) {
+            this.image = image;
+            this.step = step;
+        }
+    }
 }
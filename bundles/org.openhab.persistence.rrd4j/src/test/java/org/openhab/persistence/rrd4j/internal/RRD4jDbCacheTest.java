@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * The {@link RRD4jDbCacheTest} is a test class for keeping rrd4j databases open
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDbCacheTest {
+
+    private final Map<String, List<RrdDb>> opened = new HashMap<>();
+
+    private @Nullable RrdDb open(String name) {
+        RrdDb db = mock(RrdDb.class);
+        opened.computeIfAbsent(name, n -> new ArrayList<>()).add(db);
+        return db;
+    }
+
+    private @Nullable RrdDb use(RRD4jDbCache cache, String name) throws IOException {
+        return cache.execute(name, this::open, db -> db);
+    }
+
+    private int openCount(String name) {
+        List<RrdDb> dbs = opened.get(name);
+        return dbs == null ? 0 : dbs.size();
+    }
+
+    private RrdDb opened(String name, int index) {
+        List<RrdDb> dbs = opened.get(name);
+        assertNotNull(dbs);
+        return dbs.get(index);
+    }
+
+    @Test
+    public void databaseIsOpenedOnce() throws IOException {
+        RRD4jDbCache cache = new RRD4jDbCache(2);
+
+        RrdDb db = use(cache, "a");
+
+        assertSame(db, use(cache, "a"));
+        assertEquals(1, openCount("a"));
+        verify(opened("a", 0), never()).close();
+    }
+
+    @Test
+    public void leastRecentlyUsedDatabaseIsClosed() throws IOException {
+        RRD4jDbCache cache = new RRD4jDbCache(2);
+
+        use(cache, "a");
+        use(cache, "b");
+        use(cache, "a");
+        use(cache, "c");
+
+        verify(opened("b", 0)).close();
+        verify(opened("a", 0), never()).close();
+        verify(opened("c", 0), never()).close();
+    }
+
+    @Test
+    public void evictedDatabaseIsReopened() throws IOException {
+        RRD4jDbCache cache = new RRD4jDbCache(1);
+
+        use(cache, "a");
+        use(cache, "b");
+        RrdDb reopened = use(cache, "a");
+
+        assertEquals(2, openCount("a"));
+        verify(opened("a", 0)).close();
+        assertSame(opened("a", 1), reopened);
+        verify(opened("a", 1), never()).close();
+    }
+
+    @Test
+    public void evictedDatabasesArePruned() throws IOException {
+        RRD4jDbCache cache = new RRD4jDbCache(2);
+
+        for (int i = 0; i < 10; i++) {
+            use(cache, "db" + i);
+        }
+        assertEquals(2, cache.size());
+
+        // a database which cannot be opened is not kept
+        assertNull(cache.execute("missing", name -> null, db -> db));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void closeAllClosesDatabases() throws IOException {
+        RRD4jDbCache cache = new RRD4jDbCache(2);
+        use(cache, "a");
+        use(cache, "b");
+
+        cache.closeAll();
+
+        verify(opened("a", 0)).close();
+        verify(opened("b", 0)).close();
+        assertEquals(0, cache.size());
+        assertNotSame(opened("a", 0), use(cache, "a"));
+    }
+}
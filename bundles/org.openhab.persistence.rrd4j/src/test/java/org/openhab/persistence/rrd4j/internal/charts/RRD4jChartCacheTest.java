@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.CachedChart;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartCache.ChartRenderer;
+
+/**
+ * The {@link RRD4jChartCacheTest} is a test class for caching rendered charts
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartCacheTest {
+
+    private final RRD4jChartCache cache = new RRD4jChartCache(10);
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    private ChartRenderer renderer(long expiresAt) {
+        return () -> {
+            renderCount.incrementAndGet();
+            return new CachedChart(new byte[] { 1 }, expiresAt);
+        };
+    }
+
+    private long future() {
+        return System.currentTimeMillis() + 60000;
+    }
+
+    @Test
+    public void chartIsCached() throws ItemNotFoundException, IOException {
+        byte[] chart = cache.get("a", renderer(future()));
+
+        assertSame(chart, cache.get("a", renderer(future())));
+        assertEquals(1, renderCount.get());
+
+        cache.get("b", renderer(future()));
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    public void expiredChartIsRenderedAgain() throws ItemNotFoundException, IOException {
+        byte[] chart = cache.get("a", renderer(0));
+
+        assertNotSame(chart, cache.get("a", renderer(0)));
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    public void clearedChartIsRenderedAgain() throws ItemNotFoundException, IOException {
+        cache.get("a", renderer(future()));
+        cache.clear();
+
+        cache.get("a", renderer(future()));
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    public void failureIsNotCached() throws ItemNotFoundException, IOException {
+        assertThrows(IOException.class, () -> cache.get("a", () -> {
+            renderCount.incrementAndGet();
+            throw new IOException("test");
+        }));
+
+        cache.get("a", renderer(future()));
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    public void concurrentRequestsShareRendering() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicReference<byte @Nullable []> first = new AtomicReference<>();
+        AtomicReference<byte @Nullable []> second = new AtomicReference<>();
+
+        Thread rendering = new Thread(() -> {
+            try {
+                first.set(cache.get("a", () -> {
+                    renderCount.incrementAndGet();
+                    started.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return new CachedChart(new byte[] { 1 }, future());
+                }));
+            } catch (ItemNotFoundException | IOException e) {
+                fail(e);
+            }
+        });
+        rendering.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // the second request waits for the rendering of the first one
+        Thread waiting = new Thread(() -> {
+            try {
+                second.set(cache.get("a", renderer(future())));
+            } catch (ItemNotFoundException | IOException e) {
+                fail(e);
+            }
+        });
+        waiting.start();
+        Thread.sleep(50);
+        assertTrue(waiting.isAlive());
+
+        finish.countDown();
+        rendering.join();
+        waiting.join();
+
+        assertNotNull(first.get());
+        assertSame(first.get(), second.get());
+        assertEquals(1, renderCount.get());
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Pool of compiled instances of one JavaScript file. Every instance is compiled on its own {@link ScriptEngine}, so
+ * concurrent transformations never share an engine. Instances are created on demand up to the maximum pool size,
+ * callers wait for a free instance afterwards. Idle instances exceeding the first one are discarded after a while.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CompiledScriptPool {
+
+    private static class PooledScript {
+        private final CompiledScript script;
+        private long lastUsed;
+
+        private PooledScript(CompiledScript script) {
+            this.script = script;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    private final String filename;
+    private final String source;
+    private final Supplier<ScriptEngine> engineFactory;
+    private final int maxSize;
+    private final long idleTimeout;
+    private final long acquireTimeout;
+
+    // most recently used instances first, so rarely used ones become idle and are discarded
+    private final LinkedBlockingDeque<PooledScript> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    private final AtomicLong evaluationCount = new AtomicLong();
+    private final AtomicLong totalEvaluationTime = new AtomicLong();
+    private final AtomicLong maxEvaluationTime = new AtomicLong();
+
+    /**
+     * Creates the pool and compiles the first instance, so errors in the script are reported immediately.
+     *
+     * @param filename name of the JavaScript file, used in messages
+     * @param source content of the JavaScript file
+     * @param engineFactory creates a new engine for each instance
+     * @param maxSize maximum number of instances
+     * @param idleTimeout time in milliseconds after which idle instances are discarded
+     * @param acquireTimeout time in milliseconds to wait for a free instance
+     * @throws TransformationException if the script could not be compiled
+     */
+    public CompiledScriptPool(String filename, String source, Supplier<ScriptEngine> engineFactory, int maxSize,
+            long idleTimeout, long acquireTimeout) throws TransformationException {
+        this.filename = filename;
+        this.source = source;
+        this.engineFactory = engineFactory;
+        this.maxSize = Math.max(maxSize, 1);
+        this.idleTimeout = idleTimeout;
+        this.acquireTimeout = acquireTimeout;
+
+        size.incrementAndGet();
+        idle.offerFirst(new PooledScript(compile()));
+    }
+
+    /**
+     * Evaluates the script with new bindings containing the given variables.
+     *
+     * @param variables variables to put into the bindings
+     * @return the result of the script
+     * @throws TransformationException if no instance became available or evaluating the script failed
+     */
+    public @Nullable Object eval(Map<String, Object> variables) throws TransformationException {
+        PooledScript pooled = acquire();
+        long startTime = System.nanoTime();
+        try {
+            Bindings bindings = pooled.script.getEngine().createBindings();
+            bindings.putAll(variables);
+            return pooled.script.eval(bindings);
+        } catch (ScriptException e) {
+            throw new TransformationException("An error occurred while executing script. " + e.getMessage(), e);
+        } finally {
+            recordEvaluation(System.nanoTime() - startTime);
+            release(pooled);
+        }
+    }
+
+    /**
+     * Discards all instances. Running evaluations complete, but their instances are not returned to the pool.
+     */
+    public void close() {
+        closed = true;
+        idle.clear();
+    }
+
+    private PooledScript acquire() throws TransformationException {
+        PooledScript pooled = idle.pollFirst();
+        if (pooled != null) {
+            return pooled;
+        }
+        if (size.incrementAndGet() <= maxSize) {
+            try {
+                return new PooledScript(compile());
+            } catch (TransformationException | RuntimeException e) {
+                size.decrementAndGet();
+                throw e;
+            }
+        }
+        size.decrementAndGet();
+        try {
+            pooled = idle.pollFirst(acquireTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pooled == null) {
+            throw new TransformationException(
+                    "Timeout while waiting for JavaScript " + filename + ", all " + maxSize + " instances are busy.");
+        }
+        return pooled;
+    }
+
+    private void release(PooledScript pooled) {
+        if (closed) {
+            size.decrementAndGet();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pooled.lastUsed = now;
+        idle.offerFirst(pooled);
+        evictIdle(now);
+    }
+
+    private void evictIdle(long now) {
+        PooledScript oldest;
+        while (idle.size() > 1 && (oldest = idle.peekLast()) != null && now - oldest.lastUsed > idleTimeout) {
+            if (idle.removeLastOccurrence(oldest)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private CompiledScript compile() throws TransformationException {
+        try {
+            return ((Compilable) engineFactory.get()).compile(source);
+        } catch (ScriptException e) {
+            throw new TransformationException("An error occurred while loading JavaScript. " + e.getMessage(), e);
+        }
+    }
+
+    private void recordEvaluation(long nanos) {
+        evaluationCount.incrementAndGet();
+        totalEvaluationTime.addAndGet(nanos);
+        maxEvaluationTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return number of instances, including the ones currently evaluating
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * @return number of instances waiting for an evaluation
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * @return number of evaluations
+     */
+    public long getEvaluationCount() {
+        return evaluationCount.get();
+    }
+
+    /**
+     * @return average evaluation time in microseconds
+     */
+    public long getAverageEvaluationTime() {
+        long count = evaluationCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalEvaluationTime.get() / count);
+    }
+
+    /**
+     * @return maximum evaluation time in microseconds
+     */
+    public long getMaxEvaluationTime() {
+        return TimeUnit.NANOSECONDS.toMicros(maxEvaluationTime.get());
+    }
+}
@@ -13,27 +13,26 @@
 package org.openhab.transform.javascript.internal;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-import javax.script.Compilable;
-import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.transform.TransformationException;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Simple cache for compiled JavaScript files.
+ * Simple cache for compiled JavaScript files. Every file is compiled into a {@link CompiledScriptPool}, so concurrent
+ * transformations with the same file do not share a script engine.
  *
  * @author Thomas Kordelle - Initial contribution
  * @author Thomas Kordelle - pre compiled scripts
@@ -42,42 +41,61 @@ import org.slf4j.LoggerFactory;
 @Component(service = JavaScriptEngineManager.class)
 public class JavaScriptEngineManager {
 
+    // maximum number of engines per script, each engine keeps its own global scope
+    private static final int MAX_POOL_SIZE = 4;
+    private static final long IDLE_TIMEOUT = 300000;
+    private static final long ACQUIRE_TIMEOUT = 10000;
+
     private final Logger logger = LoggerFactory.getLogger(JavaScriptEngineManager.class);
     private final ScriptEngineManager manager = new ScriptEngineManager();
     /* keep memory foot print low. max 2 concurrent threads are estimated */
-    private final Map<String, CompiledScript> compiledScriptMap = new ConcurrentHashMap<>(4, 0.5f, 2);
+    private final Map<String, CompiledScriptPool> compiledScriptMap = new ConcurrentHashMap<>(4, 0.5f, 2);
 
     /**
-     * Get a pre compiled script {@link CompiledScript} from cache. If it is not in the cache, then load it from
-     * storage and put a pre compiled version into the cache.
+     * Get the pool of pre compiled scripts {@link CompiledScriptPool} from cache. If it is not in the cache, then load
+     * it from storage and put a pool with one pre compiled version into the cache.
      *
      * @param filename name of the JavaScript file to load
-     * @return a pre compiled script {@link CompiledScript}
+     * @return the pool of pre compiled scripts {@link CompiledScriptPool}
      * @throws TransformationException if compile of JavaScript failed
      */
-    protected CompiledScript getScript(final String filename) throws TransformationException {
+    protected CompiledScriptPool getScript(final String filename) throws TransformationException {
+        CompiledScriptPool pool = compiledScriptMap.get(filename);
+        if (pool != null) {
+            logger.debug("Loading JavaScript {} from cache.", filename);
+            return pool;
+        }
         synchronized (compiledScriptMap) {
-            CompiledScript compiledScript = compiledScriptMap.get(filename);
-            if (compiledScript != null) {
-                logger.debug("Loading JavaScript {} from cache.", filename);
-                return compiledScript;
-            } else {
-                final String path = TransformationScriptWatcher.TRANSFORM_FOLDER + File.separator + filename;
-                logger.debug("Loading script {} from storage ", path);
-                try (final Reader reader = new InputStreamReader(new FileInputStream(path))) {
-                    final ScriptEngine engine = manager.getEngineByName("javascript");
-                    final CompiledScript cScript = ((Compilable) engine).compile(reader);
-                    logger.debug("Putting compiled JavaScript {} to cache.", cScript);
-                    compiledScriptMap.put(filename, cScript);
-                    return cScript;
-                } catch (IOException | ScriptException e) {
-                    throw new TransformationException("An error occurred while loading JavaScript. " + e.getMessage(),
-                            e);
-                }
+            pool = compiledScriptMap.get(filename);
+            if (pool != null) {
+                return pool;
+            }
+            final String path = getSourcePath() + filename;
+            logger.debug("Loading script {} from storage ", path);
+            try {
+                final String source = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+                pool = new CompiledScriptPool(filename, source, this::createEngine, MAX_POOL_SIZE, IDLE_TIMEOUT,
+                        ACQUIRE_TIMEOUT);
+            } catch (IOException e) {
+                throw new TransformationException("An error occurred while loading JavaScript. " + e.getMessage(), e);
             }
+            logger.debug("Putting compiled JavaScript {} to cache.", filename);
+            compiledScriptMap.put(filename, pool);
+            return pool;
         }
     }
 
+    /**
+     * @return the folder of the JavaScript files, including a trailing separator
+     */
+    protected String getSourcePath() {
+        return TransformationScriptWatcher.TRANSFORM_FOLDER + File.separator;
+    }
+
+    protected ScriptEngine createEngine() {
+        return manager.getEngineByName("javascript");
+    }
+
     /**
      * remove a pre compiled script from cache.
      *
@@ -85,6 +103,17 @@ public class JavaScriptEngineManager {
      */
     protected void removeFromCache(String fileName) {
         logger.debug("Removing JavaScript {} from cache.", fileName);
-        compiledScriptMap.remove(fileName);
+        CompiledScriptPool pool = compiledScriptMap.remove(fileName);
+        if (pool != null) {
+            logger.debug("JavaScript {} was evaluated {} times, average {} µs, maximum {} µs.", fileName,
+                    pool.getEvaluationCount(), pool.getAverageEvaluationTime(), pool.getMaxEvaluationTime());
+            pool.close();
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        compiledScriptMap.values().forEach(CompiledScriptPool::close);
+        compiledScriptMap.clear();
     }
 }
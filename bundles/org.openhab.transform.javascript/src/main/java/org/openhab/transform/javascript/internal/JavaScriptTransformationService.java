@@ -19,12 +19,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.script.Bindings;
-import javax.script.CompiledScript;
-import javax.script.ScriptException;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.config.core.ConfigOptionProvider;
@@ -85,17 +82,13 @@ public class JavaScriptTransformationService implements TransformationService, C
 
         String result = "";
 
+        final CompiledScriptPool pool = manager.getScript(filename);
         try {
-            final CompiledScript cScript = manager.getScript(filename);
-            final Bindings bindings = cScript.getEngine().createBindings();
-            bindings.put("input", source);
-            result = String.valueOf(cScript.eval(bindings));
+            result = String.valueOf(pool.eval(Map.of("input", source)));
             return result;
-        } catch (ScriptException e) {
-            throw new TransformationException("An error occurred while executing script. " + e.getMessage(), e);
         } finally {
-            logger.trace("JavaScript execution elapsed {} ms. Result: {}", System.currentTimeMillis() - startTime,
-                    result);
+            logger.trace("JavaScript execution elapsed {} ms. Result: {}. Pool: {} of {} instances idle.",
+                    System.currentTimeMillis() - startTime, result, pool.getIdleCount(), pool.getSize());
         }
     }
 
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * The {@link CompiledScriptPoolTest} is a test class for pooling compiled scripts
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CompiledScriptPoolTest {
+
+    private final AtomicInteger engineCount = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    private CompiledScriptPool createPool(int maxSize, long acquireTimeout) throws TransformationException {
+        return new CompiledScriptPool("test.js", "value:", () -> {
+            engineCount.incrementAndGet();
+            return new TestScriptEngine();
+        }, maxSize, 300000, acquireTimeout);
+    }
+
+    private Thread startBlockingEvaluation(CompiledScriptPool pool) throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            try {
+                pool.eval(Map.of("input", "blocking", "started", started, "finish", finish));
+            } catch (TransformationException e) {
+                fail(e);
+            }
+        });
+        thread.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return thread;
+    }
+
+    @Test
+    public void instanceIsReused() throws TransformationException {
+        CompiledScriptPool pool = createPool(4, 1000);
+
+        assertEquals("value:a", pool.eval(Map.of("input", "a")));
+        assertEquals("value:b", pool.eval(Map.of("input", "b")));
+        assertEquals("value:c", pool.eval(Map.of("input", "c")));
+
+        assertEquals(1, engineCount.get());
+        assertEquals(1, pool.getSize());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void evaluationsAreCounted() throws Exception {
+        CompiledScriptPool pool = createPool(4, 1000);
+        assertEquals(0, pool.getEvaluationCount());
+        assertEquals(0, pool.getAverageEvaluationTime());
+
+        for (int i = 0; i < 5; i++) {
+            pool.eval(Map.of("input", "a"));
+        }
+        // a blocked evaluation takes at least the time until it is released
+        Thread thread = startBlockingEvaluation(pool);
+        Thread.sleep(20);
+        finish.countDown();
+        thread.join();
+
+        assertEquals(6, pool.getEvaluationCount());
+        assertTrue(pool.getMaxEvaluationTime() >= 20000);
+        assertTrue(pool.getAverageEvaluationTime() > 0);
+        assertTrue(pool.getAverageEvaluationTime() <= pool.getMaxEvaluationTime());
+    }
+
+    @Test
+    public void concurrentEvaluationUsesAnotherInstance() throws Exception {
+        CompiledScriptPool pool = createPool(4, 1000);
+        Thread thread = startBlockingEvaluation(pool);
+
+        assertEquals("value:a", pool.eval(Map.of("input", "a")));
+        assertEquals(2, engineCount.get());
+
+        finish.countDown();
+        thread.join();
+        assertEquals(2, pool.getSize());
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    @Test
+    public void evaluationTimesOutIfAllInstancesAreBusy() throws Exception {
+        CompiledScriptPool pool = createPool(1, 100);
+        Thread thread = startBlockingEvaluation(pool);
+
+        assertThrows(TransformationException.class, () -> pool.eval(Map.of("input", "a")));
+
+        finish.countDown();
+        thread.join();
+        assertEquals("value:a", pool.eval(Map.of("input", "a")));
+        assertEquals(1, engineCount.get());
+    }
+}
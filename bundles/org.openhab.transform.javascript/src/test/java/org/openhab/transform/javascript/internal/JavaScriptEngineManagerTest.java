@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.script.ScriptEngine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * The {@link JavaScriptEngineManagerTest} is a test class for caching compiled scripts
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class JavaScriptEngineManagerTest {
+
+    private @TempDir Path folder;
+    private Path script;
+    private JavaScriptEngineManager manager;
+
+    private class TestableJavaScriptEngineManager extends JavaScriptEngineManager {
+        @Override
+        protected String getSourcePath() {
+            return folder.toString() + File.separator;
+        }
+
+        @Override
+        protected ScriptEngine createEngine() {
+            return new TestScriptEngine();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        script = folder.resolve("test.js");
+        manager = new TestableJavaScriptEngineManager();
+    }
+
+    private void writeScript(String source) throws IOException {
+        Files.write(script, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void scriptIsCached() throws IOException, TransformationException {
+        writeScript("first:");
+        CompiledScriptPool pool = manager.getScript("test.js");
+
+        // the cached script is used although the file changed
+        writeScript("second:");
+        assertSame(pool, manager.getScript("test.js"));
+        assertEquals("first:a", pool.eval(Map.of("input", "a")));
+    }
+
+    @Test
+    public void scriptIsReloadedAfterChange() throws IOException, TransformationException {
+        writeScript("first:");
+        CompiledScriptPool pool = manager.getScript("test.js");
+        assertEquals("first:a", pool.eval(Map.of("input", "a")));
+
+        writeScript("second:");
+        manager.removeFromCache("test.js");
+
+        CompiledScriptPool reloadedPool = manager.getScript("test.js");
+        assertNotSame(pool, reloadedPool);
+        assertEquals("second:a", reloadedPool.eval(Map.of("input", "a")));
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void missingScriptFails() {
+        assertThrows(TransformationException.class, () -> manager.getScript("missing.js"));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import java.io.Reader;
+import java.util.concurrent.CountDownLatch;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+/**
+ * The {@link TestScriptEngine} is a minimal compilable engine for testing. A compiled script returns its source
+ * followed by the variable "input". If the variables contain the latches "started" and "finish", the script counts down
+ * the first one and waits for the second one before returning.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class TestScriptEngine extends AbstractScriptEngine implements Compilable {
+
+    @Override
+    public CompiledScript compile(String script) {
+        return new CompiledScript() {
+            @Override
+            public Object eval(ScriptContext context) throws ScriptException {
+                Bindings bindings = context.getBindings(ScriptContext.ENGINE_SCOPE);
+                Object started = bindings.get("started");
+                Object finish = bindings.get("finish");
+                if (started instanceof CountDownLatch && finish instanceof CountDownLatch) {
+                    ((CountDownLatch) started).countDown();
+                    try {
+                        ((CountDownLatch) finish).await();
+                    } catch (InterruptedException e) {
+                        throw new ScriptException(e);
+                    }
+                }
+                return script + bindings.get("input");
+            }
+
+            @Override
+            public ScriptEngine getEngine() {
+                return TestScriptEngine.this;
+            }
+        };
+    }
+
+    @Override
+    public CompiledScript compile(Reader script) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object eval(String script, ScriptContext context) throws ScriptException {
+        return compile(script).eval(context);
+    }
+
+    @Override
+    public Object eval(Reader reader, ScriptContext context) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Bindings createBindings() {
+        return new SimpleBindings();
+    }
+
+    @Override
+    public ScriptEngineFactory getFactory() {
+        return null;
+    }
+}
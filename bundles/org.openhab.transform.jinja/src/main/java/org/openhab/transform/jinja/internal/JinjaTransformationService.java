@@ -14,8 +14,10 @@ package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,6 +33,12 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
@@ -45,8 +53,25 @@ public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
+    // maximum number of parsed templates which are kept
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private static final String VALUE_JSON = "value_json";
+
+    // ObjectMapper is thread-safe once configured
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private Jinjava jinjava = new Jinjava();
 
+    @SuppressWarnings("serial")
+    private final Map<String, Node> templateCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, Node>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, Node> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -61,20 +86,59 @@ public class JinjaTransformationService implements TransformationService {
         Map<String, @Nullable Object> bindings = new HashMap<>();
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // only parse the value if the template uses it
+        if (template.contains(VALUE_JSON)) {
+            try {
+                JsonNode tree = OBJECT_MAPPER.readTree(value);
+                bindings.put(VALUE_JSON, toObject(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
-        String transformationResult = jinjava.render(template, bindings);
+        String transformationResult = render(template, bindings);
 
         logger.debug("transformation resulted in '{}'", transformationResult);
 
         return transformationResult;
     }
 
+    /**
+     * Renders the template from its cached syntax tree, which is parsed on first use. Templates with syntax errors are
+     * not cached but rendered by {@link Jinjava#render}, which reports the errors.
+     */
+    private String render(String template, Map<String, @Nullable Object> bindings) {
+        Node root = templateCache.get(template);
+        if (root == null) {
+            JinjavaInterpreter parser = newInterpreter(new HashMap<>());
+            root = parser.parse(template);
+            if (!parser.getErrorsCopy().isEmpty()) {
+                return jinjava.render(template, bindings);
+            }
+            templateCache.put(template, root);
+        }
+
+        JinjavaInterpreter interpreter = newInterpreter(bindings);
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            String result = interpreter.render(root);
+            List<TemplateError> errors = interpreter.getErrorsCopy();
+            for (TemplateError error : errors) {
+                if (error.getSeverity() == ErrorType.FATAL) {
+                    throw new FatalTemplateErrorsException(template, errors);
+                }
+            }
+            return result;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    private JinjavaInterpreter newInterpreter(Map<String, @Nullable Object> bindings) {
+        Context context = new Context(jinjava.getGlobalContext(), bindings, jinjava.getGlobalConfig().getDisabled());
+        return new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -59,4 +59,17 @@ public class JinjaTransformationServiceTest {
         // Asserts
         assertEquals("Hello world!", transformedResponse);
     }
+
+    @Test
+    public void testReusedTemplate() throws TransformationException {
+        String template = "{{value_json.Temperature}} {{ value_json.Unit }}";
+
+        // method under test
+        String first = processor.transform(template, "{\"Temperature\":4.7,\"Unit\":\"C\"}");
+        String second = processor.transform(template, "{\"Temperature\":21.3,\"Unit\":\"C\"}");
+
+        // Asserts
+        assertEquals("4.7 C", first);
+        assertEquals("21.3 C", second);
+    }
 }
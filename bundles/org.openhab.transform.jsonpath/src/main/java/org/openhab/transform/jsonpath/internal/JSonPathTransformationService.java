@@ -12,7 +12,10 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +27,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -43,6 +47,20 @@ public class JSonPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    // maximum number of compiled JsonPath expressions which are kept
+    private static final int MAX_CACHED_PATHS = 256;
+
+    // a payload is usually transformed by several channels right after each other, so parsed documents are only kept
+    // for a short time
+    private static final int MAX_CACHED_DOCUMENTS = 16;
+    private static final long DOCUMENT_CACHE_TIME_MS = 1000;
+    // larger documents are not cached to limit the memory usage
+    private static final int MAX_CACHED_DOCUMENT_LENGTH = 65536;
+
+    private final Map<String, JsonPath> pathCache = Collections.synchronizedMap(new LruMap<>(MAX_CACHED_PATHS));
+    private final Map<String, ParsedDocument> documentCache = Collections
+            .synchronizedMap(new LruMap<>(MAX_CACHED_DOCUMENTS));
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -60,7 +78,8 @@ public class JSonPathTransformationService implements TransformationService {
         logger.debug("about to transform '{}' by the function '{}'", source, jsonPathExpression);
 
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            JsonPath jsonPath = pathCache.computeIfAbsent(jsonPathExpression, JsonPath::compile);
+            Object transformationResult = jsonPath.read(getDocument(source));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -76,6 +95,27 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    /**
+     * Returns the parsed JSON document. Parsed documents are shared by transformations of the same source, they are
+     * only read by {@link JsonPath} and never modified.
+     */
+    private Object getDocument(String source) {
+        if (source.length() > MAX_CACHED_DOCUMENT_LENGTH) {
+            return parse(source);
+        }
+        long now = System.currentTimeMillis();
+        ParsedDocument cached = documentCache.get(source);
+        if (cached == null || cached.parsedAt + DOCUMENT_CACHE_TIME_MS < now) {
+            cached = new ParsedDocument(parse(source), now);
+            documentCache.put(source, cached);
+        }
+        return cached.document;
+    }
+
+    private Object parse(String source) {
+        return Configuration.defaultConfiguration().jsonProvider().parse(source);
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -100,4 +140,29 @@ public class JSonPathTransformationService implements TransformationService {
     private String createStringList(List<?> list) {
         return list.stream().map(n -> "\"" + String.valueOf(n) + "\"").collect(Collectors.joining(", ", "[", "]"));
     }
+
+    private static class ParsedDocument {
+        private final Object document;
+        private final long parsedAt;
+
+        private ParsedDocument(Object document, long parsedAt) {
+            this.document = document;
+            this.parsedAt = parsedAt;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private final int maxSize;
+
+        private LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
@@ -127,4 +127,16 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testSharedPayloadForSeveralPaths() throws TransformationException {
+        // the parsed payload is shared by the transformations of several channels
+        String payload = "{\"temperature\":21.5,\"humidity\":48,\"battery\":97}";
+        assertEquals("21.5", processor.transform("$.temperature", payload));
+        assertEquals("48", processor.transform("$.humidity", payload));
+        assertEquals("97", processor.transform("$.battery", new String(payload)));
+
+        // a new payload is parsed again
+        assertEquals("22.0", processor.transform("$.temperature", "{\"temperature\":22.0}"));
+    }
 }
@@ -75,4 +75,14 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_reusedExpression() throws TransformationException {
+        // the compiled expression is cached and reused for the following values
+        assertEquals("12", processor.transform("VALUE:(\\d+)", "VALUE:12"));
+        assertEquals("34", processor.transform("VALUE:(\\d+)", "VALUE:34"));
+        assertNull(processor.transform("VALUE:(\\d+)", "OTHER:56"));
+        assertEquals("varX=1 ", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /", "X1"));
+        assertEquals("varY=2 Z3", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /", "Y2,Z3"));
+    }
 }
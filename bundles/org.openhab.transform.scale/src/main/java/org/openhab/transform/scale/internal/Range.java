@@ -109,4 +109,21 @@ public class Range {
 
         return true;
     }
+
+    /**
+     * Checks if the range contains all values strictly between the given bounds.
+     *
+     * @param lower the lower bound or null for no lower bound
+     * @param upper the upper bound or null for no upper bound
+     * @return true if every value between the bounds is contained in the range
+     */
+    public boolean containsAllBetween(final BigDecimal lower, final BigDecimal upper) {
+        if (min != null && (lower == null || lower.compareTo(min) < 0)) {
+            return false;
+        }
+        if (max != null && (upper == null || upper.compareTo(max) > 0)) {
+            return false;
+        }
+        return true;
+    }
 }
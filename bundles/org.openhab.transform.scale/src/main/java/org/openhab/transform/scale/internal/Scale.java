@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A scale file compiled for lookups by binary search.
+ *
+ * The limits of all ranges split the number line into segments: the limits themselves and the open intervals between
+ * them. Every value of a segment is matched by the same ranges, so the label of the first matching range, in the order
+ * of the scale file, is computed once per segment when the file is loaded.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class Scale {
+
+    private final String format;
+    private final String nonNumeric;
+
+    /** distinct limits of all ranges, in ascending order */
+    private final BigDecimal[] limits;
+
+    /** {@link #limits} as doubles, for lookups without BigDecimal */
+    private final double[] doubleLimits;
+
+    /**
+     * Label of each segment or null if no range matches: segment 2i is the open interval below limit i, segment 2i+1
+     * is limit i itself, and the last segment is the open interval above the last limit.
+     */
+    private final String[] labels;
+
+    /**
+     * @param ranges the ranges and their labels, in the order of the scale file
+     * @param format the presentation format of the result
+     * @param nonNumeric the label for non numeric values, may be null
+     */
+    public Scale(final Map<Range, String> ranges, final String format, final String nonNumeric) {
+        this.format = format;
+        this.nonNumeric = nonNumeric;
+
+        final TreeSet<BigDecimal> distinctLimits = new TreeSet<>();
+        for (Range range : ranges.keySet()) {
+            if (range.min != null) {
+                distinctLimits.add(range.min);
+            }
+            if (range.max != null) {
+                distinctLimits.add(range.max);
+            }
+        }
+        limits = distinctLimits.toArray(new BigDecimal[0]);
+
+        doubleLimits = new double[limits.length];
+        for (int i = 0; i < limits.length; i++) {
+            // normalizes -0.0, which is smaller than 0.0 for Arrays.binarySearch
+            doubleLimits[i] = limits[i].doubleValue() + 0.0;
+        }
+
+        labels = new String[2 * limits.length + 1];
+        for (int segment = 0; segment < labels.length; segment++) {
+            for (Map.Entry<Range, String> entry : ranges.entrySet()) {
+                if (covers(entry.getKey(), segment)) {
+                    labels[segment] = entry.getValue();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean covers(final Range range, final int segment) {
+        if (segment % 2 == 1) {
+            return range.contains(limits[segment / 2]);
+        }
+        final BigDecimal lower = segment == 0 ? null : limits[segment / 2 - 1];
+        final BigDecimal upper = segment == labels.length - 1 ? null : limits[segment / 2];
+        return range.containsAllBetween(lower, upper);
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public String getNonNumeric() {
+        return nonNumeric;
+    }
+
+    /**
+     * Returns the label of the first range containing the value.
+     *
+     * @param value the value to look up
+     * @return the label or null if no range contains the value
+     */
+    public String getLabel(final BigDecimal value) {
+        final int index = Arrays.binarySearch(limits, value);
+        return labels[index >= 0 ? 2 * index + 1 : -2 * (index + 1)];
+    }
+
+    /**
+     * Returns the label of the first range containing the value. As rounding to double keeps the order of numbers,
+     * the result is exact unless the value hits a limit as double, then it is decided with the exact value.
+     *
+     * @param value the value as double, must not be NaN or infinite
+     * @param exactValue the exact value
+     * @return the label or null if no range contains the value
+     */
+    public String getLabel(final double value, final String exactValue) {
+        final int index = Arrays.binarySearch(doubleLimits, value + 0.0);
+        if (index >= 0) {
+            return getLabel(new BigDecimal(exactValue));
+        }
+        return labels[-2 * (index + 1)];
+    }
+}
@@ -153,4 +153,20 @@ public class ScaleTransformServiceTest {
         String transformedResponse = processor.transform(existingscale, source);
         assertEquals("", transformedResponse);
     }
+
+    @Test
+    public void testTransformByScaleBounds() throws TransformationException {
+        String existingscale = "scale/limits.scale";
+
+        // Testing inclusive and exclusive bounds
+        assertEquals("low", processor.transform(existingscale, "9.99"));
+        assertEquals("middle", processor.transform(existingscale, "10"));
+        assertEquals("middle", processor.transform(existingscale, "1E+1"));
+        assertEquals("high", processor.transform(existingscale, "20.0"));
+        assertEquals("extreme", processor.transform(existingscale, "300"));
+
+        // Testing values which are only distinguishable from a bound with their exact value
+        assertEquals("middle", processor.transform(existingscale, "19.9999999999999999999"));
+        assertEquals("high", processor.transform(existingscale, "20.0000000000000000001"));
+    }
 }
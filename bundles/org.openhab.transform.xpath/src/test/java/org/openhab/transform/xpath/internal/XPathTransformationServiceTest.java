@@ -38,4 +38,13 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXPath_reusedExpression() throws TransformationException {
+        // the compiled expression and the document builder are reused for the following documents
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("12", processor.transform("//current_conditions/temp_c/@data",
+                "<xml><current_conditions><temp_c data=\"12\"/></current_conditions></xml>"));
+        assertEquals("Krefeld Germany", processor.transform("//postal_code/@data", source));
+    }
 }
@@ -15,9 +15,12 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -43,6 +46,9 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    /** compiled stylesheets by path, recompiled when the file is modified */
+    private final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +66,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File xsl;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xsl = new File(path);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -81,7 +87,7 @@ public class XsltTransformationService implements TransformationService {
         Transformer transformer;
 
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            transformer = getTemplates(xsl).newTransformer();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
@@ -92,4 +98,31 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    /**
+     * Returns the compiled stylesheet. {@link Templates} are thread-safe, only the {@link Transformer}s created from
+     * them have to be created for every transformation.
+     */
+    private Templates getTemplates(File xsl) throws TransformerConfigurationException {
+        String path = xsl.getAbsolutePath();
+        long lastModified = xsl.lastModified();
+        CachedTemplates cached = templatesCache.get(path);
+        if (cached == null || cached.lastModified != lastModified) {
+            logger.debug("compiling stylesheet '{}'", path);
+            cached = new CachedTemplates(TransformerFactory.newInstance().newTemplates(new StreamSource(xsl)),
+                    lastModified);
+            templatesCache.put(path, cached);
+        }
+        return cached.templates;
+    }
+
+    private static class CachedTemplates {
+        private final Templates templates;
+        private final long lastModified;
+
+        private CachedTemplates(Templates templates, long lastModified) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+        }
+    }
 }